@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady state costs of the ground clue tracker. Run with {@code -PjmhProfilers=gc} to see allocation rates;
+ * {@link ClueGroundManagerAllocationTest} checks that {@link #onGameTick()} allocates nothing on a quiet tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClueGroundManagerBenchmark
+{
+	// Keeps every tile within the zones the tracker checks around the player
+	private static final int SPREAD = 40;
+
+	@Param({"10", "100", "1000", "10000"})
+	public int trackedClues;
+
+	private ClueGroundManager groundManager;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		ClueDetailsPlugin plugin = StandIns.plugin();
+		Tile[][][] sceneTiles = StandIns.emptyScene();
+		Client client = StandIns.client(0, sceneTiles);
+		groundManager = new ClueGroundManager(client, new ClueGroundSaveDataManager(client, null, null), plugin);
+
+		// Spread clues over tiles around the player, with every fourth clue and any overflow on one stack
+		Map<WorldPoint, List<TileItem>> itemsByLocation = new HashMap<>();
+		List<ClueInstance> clues = new ArrayList<>(trackedClues);
+		WorldPoint stackLocation = StandIns.PLAYER_LOCATION.dx(SPREAD / 2 + 1);
+		for (int i = 0; i < trackedClues; i++)
+		{
+			WorldPoint location = i % 4 == 0 || i >= SPREAD * SPREAD ? stackLocation : tileNear(i);
+			int itemId = (i & 1) == 0 ? ItemID.CLUE_SCROLL_BEGINNER : ItemID.CLUE_SCROLL_MASTER;
+			TileItem item = StandIns.tileItem(itemId, 6000 + i);
+			itemsByLocation.computeIfAbsent(location, l -> new ArrayList<>()).add(item);
+			clues.add(new ClueInstance(ClueSteps.NONE, itemId, location, item, 0));
+		}
+
+		for (Map.Entry<WorldPoint, List<TileItem>> entry : itemsByLocation.entrySet())
+		{
+			WorldPoint location = entry.getKey();
+			sceneTiles[location.getPlane()][location.getX() - StandIns.BASE_X][location.getY() - StandIns.BASE_Y] =
+				StandIns.tile(location, entry.getValue());
+		}
+
+		WorldPointToClueInstances tracked = groundManager.getTrackedClues();
+		for (ClueInstance clue : clues)
+		{
+			tracked.addClue(clue);
+		}
+	}
+
+	@Benchmark
+	public ClueGroundManager onGameTick()
+	{
+		groundManager.onGameTick();
+		return groundManager;
+	}
+
+	/**
+	 * The first tick after a scene load, which reconciles every clue tile in the scene in one pass.
+	 */
+	@Benchmark
+	public ClueGroundManager firstTickAfterSceneLoad()
+	{
+		groundManager.onSceneLoading();
+		groundManager.onGameTick();
+		return groundManager;
+	}
+
+	private static WorldPoint tileNear(int i)
+	{
+		WorldPoint player = StandIns.PLAYER_LOCATION;
+		return new WorldPoint(player.getX() - SPREAD / 2 + i % SPREAD, player.getY() - SPREAD / 2 + i / SPREAD, 0);
+	}
+}
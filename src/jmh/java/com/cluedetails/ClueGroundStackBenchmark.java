@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costs of summarising a single ground stack for the overlays, which only depend on the size of the stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClueGroundStackBenchmark
+{
+	@Param({"10", "100", "1000", "2500"})
+	public int stackSize;
+
+	private ClueGroundManager groundManager;
+	private ClueDetailsConfig config;
+	private WorldPoint stackLocation;
+	private SortedSet<ClueInstance> stack;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		ClueDetailsPlugin plugin = StandIns.plugin();
+		Tile[][][] sceneTiles = StandIns.emptyScene();
+		Client client = StandIns.client(0, sceneTiles);
+		groundManager = new ClueGroundManager(client, new ClueGroundSaveDataManager(client, null, null), plugin);
+
+		Map<String, Object> configReturns = new HashMap<>();
+		configReturns.put("collapseGroundClues", Boolean.TRUE);
+		configReturns.put("collapseGroundCluesByTier", Boolean.FALSE);
+		config = StandIns.of(ClueDetailsConfig.class, configReturns);
+
+		stackLocation = StandIns.PLAYER_LOCATION.dx(1);
+		List<TileItem> items = new ArrayList<>(stackSize);
+		WorldPointToClueInstances tracked = groundManager.getTrackedClues();
+		for (int i = 0; i < stackSize; i++)
+		{
+			int itemId = (i & 1) == 0 ? ItemID.CLUE_SCROLL_BEGINNER : ItemID.CLUE_SCROLL_MASTER;
+			TileItem item = StandIns.tileItem(itemId, 6000 + i);
+			items.add(item);
+			tracked.addClue(new ClueInstance(ClueSteps.NONE, itemId, stackLocation, item, 0));
+		}
+		sceneTiles[stackLocation.getPlane()][stackLocation.getX() - StandIns.BASE_X][stackLocation.getY() - StandIns.BASE_Y] =
+			StandIns.tile(stackLocation, items);
+		stack = tracked.getAllCluesAtWorldPoint(stackLocation);
+	}
+
+	@Benchmark
+	public Map<ClueInstance, Integer> getClueInstancesWithQuantityAtWp()
+	{
+		return groundManager.getClueInstancesWithQuantityAtWp(config, stackLocation);
+	}
+
+	@Benchmark
+	public Map<ClueInstance, Integer> keepOldestUniqueClues()
+	{
+		return ClueGroundManager.keepOldestUniqueClues(stack);
+	}
+
+	@Benchmark
+	public Map<ClueInstance, Integer> keepOldestTierClues()
+	{
+		return ClueGroundManager.keepOldestTierClues(stack);
+	}
+}
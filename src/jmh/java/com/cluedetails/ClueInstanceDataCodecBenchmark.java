@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClueInstanceDataCodecBenchmark
+{
+	private static final Type DATA_TYPE = new TypeToken<List<ClueInstanceData>>()
+	{
+	}.getType();
+
+	@Param({"100", "1000", "5000"})
+	public int clueCount;
+
+	private final Gson gson = new Gson();
+	private List<ClueInstanceData> data;
+	private String json;
+	private String encoded;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(clueCount);
+		data = new ArrayList<>(clueCount);
+		for (int i = 0; i < clueCount; i++)
+		{
+			// Mostly single step clues, stacked on a few hundred tiles around the usual drop spots
+			int[] steps = random.nextInt(10) == 0
+				? new int[]{ random.nextInt(3000), random.nextInt(3000), random.nextInt(3000) }
+				: new int[]{ 2677 + random.nextInt(1000) };
+			data.add(new ClueInstanceData(steps, 2677 + random.nextInt(1000), random.nextInt(6000) - 500,
+				3100 + random.nextInt(40) * 8, 3200 + random.nextInt(40) * 8, random.nextInt(4) == 0 ? 1 : 0));
+		}
+		json = gson.toJson(data);
+		encoded = ClueInstanceDataCodec.encode(data);
+	}
+
+	/**
+	 * Reports the size of each encoding alongside the encode timings.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class EncodedSize
+	{
+		public long chars;
+	}
+
+	@Benchmark
+	public String encodeGson(EncodedSize size)
+	{
+		String encodedJson = gson.toJson(data);
+		size.chars = encodedJson.length();
+		return encodedJson;
+	}
+
+	@Benchmark
+	public String encodeBinary(EncodedSize size)
+	{
+		String encodedBinary = ClueInstanceDataCodec.encode(data);
+		size.chars = encodedBinary.length();
+		return encodedBinary;
+	}
+
+	@Benchmark
+	public List<ClueInstanceData> decodeGson()
+	{
+		return gson.fromJson(json, DATA_TYPE);
+	}
+
+	@Benchmark
+	public List<ClueInstanceData> decodeBinary()
+	{
+		return ClueInstanceDataCodec.decode(encoded);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClueStackMatcherBenchmark
+{
+	// Ground items are this many ticks closer to despawning than their stored times, from the player being away
+	private static final int TICKS_AWAY = 1200;
+
+	@Param({"1", "10", "100", "1000", "2000"})
+	public int stackSize;
+
+	private int[] storedTicks;
+	private int[] storedLimits;
+	private int[] unchangedGroundTicks;
+	private int[] pickedUpGroundTicks;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		storedTicks = new int[stackSize];
+		storedLimits = new int[stackSize];
+		unchangedGroundTicks = new int[stackSize];
+		// Irregular gaps, as clues are rarely dropped on consecutive ticks. Evenly repeating gaps would
+		// make dropping the oldest clues look the same as the player having been away for longer.
+		Random random = new Random(stackSize);
+		int tick = 100;
+		for (int i = 0; i < stackSize; i++)
+		{
+			tick += 1 + random.nextInt(12);
+			storedTicks[i] = tick;
+			// A clue can't despawn any later than when it was last seen to
+			storedLimits[i] = storedTicks[i];
+			unchangedGroundTicks[i] = storedTicks[i] - TICKS_AWAY;
+		}
+
+		// Someone else picked up the oldest third of the stack while the player was away
+		int pickedUp = stackSize / 3;
+		pickedUpGroundTicks = Arrays.copyOfRange(unchangedGroundTicks, pickedUp, stackSize);
+
+		// Make sure both cases are timing a full match rather than an early give up
+		int[] unchangedMatches = unchangedStack();
+		int[] pickedUpMatches = firstThirdPickedUp();
+		for (int i = 0; i < stackSize; i++)
+		{
+			if (unchangedMatches[i] != i || pickedUpMatches[i] != (i < pickedUp ? -1 : i - pickedUp))
+			{
+				throw new IllegalStateException("Unexpected match for stored clue " + i + " of " + stackSize);
+			}
+		}
+	}
+
+	@Benchmark
+	public int[] unchangedStack()
+	{
+		return ClueStackMatcher.align(storedTicks, storedLimits, unchangedGroundTicks);
+	}
+
+	@Benchmark
+	public int[] firstThirdPickedUp()
+	{
+		return ClueStackMatcher.align(storedTicks, storedLimits, pickedUpGroundTicks);
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.coords.WorldPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldPointToClueInstancesBenchmark
+{
+	private static final int STACK_SIZE = 1000;
+	// Clues are spread over a square of tiles this wide around the player
+	private static final int SPREAD = 48;
+
+	@Param({"10", "100", "1000", "10000"})
+	public int trackedClues;
+
+	private WorldPointToClueInstances clues;
+	private List<ClueInstance> instances;
+	private List<ClueInstance> stack;
+
+	@Setup(Level.Trial)
+	public void setUpTrial()
+	{
+		ClueDetailsPlugin plugin = StandIns.plugin();
+		Client client = StandIns.client(0, StandIns.emptyScene());
+		clues = new WorldPointToClueInstances(client, plugin);
+
+		instances = new ArrayList<>(trackedClues);
+		for (int i = 0; i < trackedClues; i++)
+		{
+			instances.add(groundClue(i, tileNear(i)));
+		}
+
+		WorldPoint stackLocation = StandIns.PLAYER_LOCATION;
+		stack = new ArrayList<>(STACK_SIZE);
+		for (int i = 0; i < STACK_SIZE; i++)
+		{
+			stack.add(groundClue(i, stackLocation));
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation()
+	{
+		clues.clearAllClues();
+	}
+
+	@Benchmark
+	public WorldPointToClueInstances addAll()
+	{
+		for (ClueInstance clue : instances)
+		{
+			clues.addClue(clue);
+		}
+		return clues;
+	}
+
+	@Benchmark
+	public WorldPointToClueInstances addThenRemoveAll()
+	{
+		for (ClueInstance clue : instances)
+		{
+			clues.addClue(clue);
+		}
+		for (ClueInstance clue : instances)
+		{
+			clues.removeClue(clue);
+		}
+		return clues;
+	}
+
+	/**
+	 * Builds a 1,000 clue stack on one tile, reading the merged view after every add as the overlay would.
+	 */
+	@Benchmark
+	public void buildStackIncremental(Blackhole blackhole)
+	{
+		for (ClueInstance clue : stack)
+		{
+			clues.addClue(clue);
+			blackhole.consume(clues.getAllCluesAtWorldPoint(clue.getLocation()).size());
+		}
+	}
+
+	/**
+	 * The same stack, with the merged view rebuilt by clearing and re-inserting every clue on each change.
+	 */
+	@Benchmark
+	public void buildStackRebuildBaseline(Blackhole blackhole)
+	{
+		List<ClueInstance> beginnerAndMaster = new ArrayList<>();
+		SortedSet<ClueInstance> merged = new TreeSet<>(Comparator
+			.comparingLong(ClueInstance::getSequenceNumber)
+			.thenComparingInt(ClueInstance::getDespawnTick));
+		for (ClueInstance clue : stack)
+		{
+			beginnerAndMaster.add(clue);
+			merged.clear();
+			merged.addAll(beginnerAndMaster);
+			blackhole.consume(merged.size());
+		}
+	}
+
+	private static WorldPoint tileNear(int i)
+	{
+		WorldPoint player = StandIns.PLAYER_LOCATION;
+		int offset = i % (SPREAD * SPREAD);
+		return new WorldPoint(player.getX() - SPREAD / 2 + offset % SPREAD, player.getY() - SPREAD / 2 + offset / SPREAD, 0);
+	}
+
+	static ClueInstance groundClue(int i, WorldPoint location)
+	{
+		int itemId = (i & 1) == 0 ? ItemID.CLUE_SCROLL_BEGINNER : ItemID.CLUE_SCROLL_MASTER;
+		return new ClueInstance(ClueSteps.NONE, itemId, location, StandIns.tileItem(itemId, 6000 + i), 0);
+	}
+}
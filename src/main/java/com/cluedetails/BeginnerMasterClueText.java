@@ -249,33 +249,50 @@ public class BeginnerMasterClueText
 	{
 	}
 
-	public static String forTaskGetClueText(String rawText)
+	// Built on first use, as the clue IDs come from the Clues catalog
+	private static class Matchers
 	{
-		final String text = Text.sanitizeMultilineText(rawText).toLowerCase();
+		private static final PhraseMatcher<Integer> CHARLIE_TASKS = buildCharlieTasks();
+		private static final PhraseMatcher<Integer> FALO_LYRICS = buildFaloLyrics();
 
-		for (Map.Entry<String, String> entry : charlieTaskToClueText.entrySet())
+		private static PhraseMatcher<Integer> buildCharlieTasks()
 		{
-			if (text.contains(entry.getKey().toLowerCase()))
+			PhraseMatcher.Builder<Integer> builder = new PhraseMatcher.Builder<>();
+			charlieTaskToClueText.forEach((task, clueText) -> builder.add(task, clueIdForText(clueText)));
+			return builder.build();
+		}
+
+		private static PhraseMatcher<Integer> buildFaloLyrics()
+		{
+			PhraseMatcher.Builder<Integer> builder = new PhraseMatcher.Builder<>();
+			for (String lyric : BeginnerMasterClueText.FALO_LYRICS)
 			{
-				return entry.getValue();
+				builder.add(lyric, clueIdForText(lyric));
 			}
+			return builder.build();
 		}
 
-		return null;
+		private static Integer clueIdForText(String clueText)
+		{
+			Clues clue = Clues.forSanitizedText(clueText);
+			return clue == null ? null : clue.getClueID();
+		}
 	}
 
-	public static String forLyricsGetClueText(String rawText)
+	public static Integer forTaskGetClueId(String rawText)
 	{
-		final String text = Text.sanitizeMultilineText(rawText).toLowerCase();
+		return filtered(Matchers.CHARLIE_TASKS.find(Text.sanitizeMultilineText(rawText)));
+	}
 
-		for (String lyric : FALO_LYRICS)
-		{
-			if (text.contains(lyric.toLowerCase()))
-			{
-				return lyric;
-			}
-		}
+	public static Integer forLyricsGetClueId(String rawText)
+	{
+		return filtered(Matchers.FALO_LYRICS.find(Text.sanitizeMultilineText(rawText)));
+	}
 
-		return null;
+	// Clues for disabled tiers are treated as unknown, as a text lookup would
+	private static Integer filtered(Integer clueId)
+	{
+		if (clueId == null || Clues.forClueIdFiltered(clueId) == null) return null;
+		return clueId;
 	}
 }
@@ -44,6 +44,11 @@ public class ClueBankManager
 
 	private final Map<Integer, ClueInstance> cluesGoneFromInventory = new HashMap<>();
 
+	// Whether cluesInBank has changed since it was last saved or loaded
+	private boolean isDirty;
+	// Set until the saved bank clues are read, so they aren't saved over in the meantime
+	private boolean isLoading;
+
 	@Inject
 	public ClueBankManager(ClueDetailsPlugin clueDetailsPlugin, ClueBankSaveDataManager clueBankSaveDataManager)
 	{
@@ -84,6 +89,7 @@ public class ClueBankManager
 		cluesGoneFromInventory.remove(trackedClueId);
 
 		cluesInBank.put(trackedClueId, clue);
+		isDirty = true;
 	}
 
 	private void handleClueTaken(int trackedClueId)
@@ -96,9 +102,10 @@ public class ClueBankManager
 		if (clueFromBank == null) return;
 
 		ClueInstance clue = clueDetailsPlugin.getClueInventoryManager().getClueByClueItemId(trackedClueId);
-		clue.setClueIds(clueFromBank.getClueIds());
+		clue.setClueSteps(clueFromBank.getClueSteps());
 
 		cluesInBank.remove(trackedClueId);
+		isDirty = true;
 		clueDetailsPlugin.getClueInventoryManager().updateLastInventoryRefreshTime();
 	}
 
@@ -109,13 +116,23 @@ public class ClueBankManager
 
 	public void saveStateToConfig()
 	{
+		if (!isDirty || isLoading) return;
+
 		clueBankSaveDataManager.saveStateToConfig(cluesInBank);
+		isDirty = false;
 	}
 
 	public void loadStateFromConfig()
 	{
 		cluesInBank.clear();
 		cluesGoneFromInventory.clear();
-		cluesInBank.putAll(clueBankSaveDataManager.loadStateFromConfig());
+		isDirty = false;
+		isLoading = true;
+		clueBankSaveDataManager.loadStateFromConfig(bankClues ->
+		{
+			// Anything banked while loading is newer than the save
+			bankClues.forEach(cluesInBank::putIfAbsent);
+			isLoading = false;
+		});
 	}
 }
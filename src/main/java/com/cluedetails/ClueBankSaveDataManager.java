@@ -31,34 +31,32 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import net.runelite.client.config.ConfigManager;
 
 @Singleton
 public class ClueBankSaveDataManager
 {
-	private final ConfigManager configManager;
-
-	private static final String CONFIG_GROUP = "clue-details";
 	private static final String BANK_CLUES_KEY = "bank-clues";
 
 	private final Gson gson;
+	private final ClueStateWriter clueStateWriter;
 	private final List<ClueInstanceData> clueInstanceData = new ArrayList<>();
 
 	@Inject
-	public ClueBankSaveDataManager(ConfigManager configManager, Gson gson)
+	public ClueBankSaveDataManager(Gson gson, ClueStateWriter clueStateWriter)
 	{
-		this.configManager = configManager;
 		this.gson = gson;
+		this.clueStateWriter = clueStateWriter;
 	}
 
 	public void saveStateToConfig(Map<Integer, ClueInstance> bankClues)
 	{
 		// Serialize groundClues save to config
 		updateData(bankClues);
-		String bankCluesData = gson.toJson(clueInstanceData);
-		configManager.setConfiguration(CONFIG_GROUP, BANK_CLUES_KEY, bankCluesData);
+		List<ClueInstanceData> snapshot = new ArrayList<>(clueInstanceData);
+		clueStateWriter.write(BANK_CLUES_KEY, () -> gson.toJson(snapshot));
 	}
 
 	private void updateData(Map<Integer, ClueInstance> bankClues)
@@ -73,9 +71,16 @@ public class ClueBankSaveDataManager
 		clueInstanceData.addAll(newData);
 	}
 
-	public Map<Integer, ClueInstance> loadStateFromConfig()
+	/**
+	 * Reads the saved bank clues off the client thread, then passes them to {@code onLoaded} on it
+	 */
+	public void loadStateFromConfig(Consumer<Map<Integer, ClueInstance>> onLoaded)
+	{
+		clueStateWriter.read(List.of(BANK_CLUES_KEY), values -> onLoaded.accept(applyLoad(values.get(BANK_CLUES_KEY))));
+	}
+
+	private Map<Integer, ClueInstance> applyLoad(String groundCluesJson)
 	{
-		String groundCluesJson = configManager.getConfiguration(CONFIG_GROUP, BANK_CLUES_KEY);
 		clueInstanceData.clear();
 
 		Map<Integer, ClueInstance> bankClues = new HashMap<>();
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.awt.Color;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+
+/**
+ * Holds each clue's effective detail text and colour, with any user overrides applied, so render code doesn't
+ * go to the ConfigManager every frame. Loaded on startup and patched from ConfigChanged. Also keeps the
+ * coloured text built from them, per clue and per set of clue steps, until a detail or colour changes.
+ */
+@Singleton
+public class ClueDetailResolver
+{
+	static final String TEXT_CONFIG_GROUP = "clue-details-text";
+	static final String COLOR_CONFIG_GROUP = "clue-details-color";
+
+	// "<col=rrggbb>" tags by RGB, shared by everything that colours text with the same colour
+	private static final IntObjectMap<String> colorTags = new IntObjectMap<>();
+
+	private final ConfigManager configManager;
+
+	// Indexed by Clues#getCatalogIndex
+	private final String[] details = new String[Clues.CLUES.size()];
+	private final Color[] detailColors = new Color[Clues.CLUES.size()];
+	private final String[] coloredDetails = new String[Clues.CLUES.size()];
+	// Only coloured where the colour isn't the default, as floor text keeps its own colour otherwise
+	private final String[] floorDetails = new String[Clues.CLUES.size()];
+
+	private final Map<ClueSteps, String> combinedTexts = new HashMap<>();
+	private final Map<ClueSteps, String> coloredCombinedTexts = new HashMap<>();
+	private final Map<ClueSteps, String> floorCombinedTexts = new HashMap<>();
+
+	@Inject
+	public ClueDetailResolver(ConfigManager configManager)
+	{
+		this.configManager = configManager;
+	}
+
+	public void startUp()
+	{
+		reload();
+		Clues.setDetailResolver(this);
+	}
+
+	public void shutDown()
+	{
+		Clues.setDetailResolver(null);
+	}
+
+	public void reload()
+	{
+		for (Clues clue : Clues.CLUES)
+		{
+			details[clue.getCatalogIndex()] = clue.readDetail(configManager);
+			detailColors[clue.getCatalogIndex()] = clue.readDetailColor(configManager);
+			updateFragments(clue);
+		}
+		clearCombinedTexts();
+	}
+
+	public void onConfigChanged(ConfigChanged event)
+	{
+		boolean isText = TEXT_CONFIG_GROUP.equals(event.getGroup());
+		if (!isText && !COLOR_CONFIG_GROUP.equals(event.getGroup())) return;
+
+		Clues clue;
+		try
+		{
+			clue = Clues.forClueId(Integer.parseInt(event.getKey()));
+		}
+		catch (NumberFormatException e)
+		{
+			return;
+		}
+		if (clue == null) return;
+
+		if (isText)
+		{
+			details[clue.getCatalogIndex()] = clue.readDetail(configManager);
+		}
+		else
+		{
+			detailColors[clue.getCatalogIndex()] = clue.readDetailColor(configManager);
+		}
+		updateFragments(clue);
+		clearCombinedTexts();
+	}
+
+	private void updateFragments(Clues clue)
+	{
+		int index = clue.getCatalogIndex();
+		coloredDetails[index] = colorTag(detailColors[index]) + details[index];
+		floorDetails[index] = detailColors[index] == Color.WHITE ? details[index] : coloredDetails[index];
+	}
+
+	private synchronized void clearCombinedTexts()
+	{
+		combinedTexts.clear();
+		coloredCombinedTexts.clear();
+		floorCombinedTexts.clear();
+	}
+
+	public String getDetail(Clues clue)
+	{
+		return details[clue.getCatalogIndex()];
+	}
+
+	public Color getDetailColor(Clues clue)
+	{
+		return detailColors[clue.getCatalogIndex()];
+	}
+
+	public String getColoredDetail(Clues clue)
+	{
+		return coloredDetails[clue.getCatalogIndex()];
+	}
+
+	public String getFloorDetail(Clues clue)
+	{
+		return floorDetails[clue.getCatalogIndex()];
+	}
+
+	/**
+	 * @return the details of every step joined by line breaks, or null if none of the steps are known clues
+	 */
+	public synchronized String getCombinedText(ClueSteps steps, boolean showColor, boolean isFloorText)
+	{
+		Map<ClueSteps, String> cache = !showColor ? combinedTexts : isFloorText ? floorCombinedTexts : coloredCombinedTexts;
+		String text = cache.get(steps);
+		if (text == null && !cache.containsKey(steps))
+		{
+			text = ClueInstance.buildCombinedClueText(steps, configManager, showColor, isFloorText);
+			cache.put(steps, text);
+		}
+		return text;
+	}
+
+	public static String colorTag(Color color)
+	{
+		// Alpha dropped, as the tag doesn't carry it and the map can't hold Integer.MIN_VALUE as a key
+		int rgb = color.getRGB() & 0xFFFFFF;
+		synchronized (colorTags)
+		{
+			String tag = colorTags.get(rgb);
+			if (tag == null)
+			{
+				tag = "<col=" + Integer.toHexString(0x1000000 | rgb).substring(1) + ">";
+				colorTags.put(rgb, tag);
+			}
+			return tag;
+		}
+	}
+}
@@ -465,7 +465,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		{
 			int scrollID = getScrollID(menuEntry);
 			ClueInstance clueInstance = clueInventoryManager.getClueByClueItemId(scrollID);
-			if (clueInstance != null && !clueInstance.getClueIds().isEmpty())
+			if (clueInstance != null && !clueInstance.getClueSteps().isEmpty())
 			{
 				return clueInstance.getCombinedClueText(configManager, showColor, isFloorText);
 			}
@@ -499,8 +499,7 @@ public class ClueDetailsOverlay extends OverlayPanel
 		// Only change ground item menu color if it's not the default
 		if (color != null && color != Color.WHITE)
 		{
-			String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-			return "<col=" + hexColor + ">" + itemName;
+			return ClueDetailResolver.colorTag(color) + itemName;
 		}
 		return null;
 	}
@@ -531,9 +530,9 @@ public class ClueDetailsOverlay extends OverlayPanel
 		ClueInstance clueInstance = getTrackedClueInstance(entry);
 
 		// Ignore three-step cryptic clues
-		if (clueInstance != null && clueInstance.getClueIds().size() == 1)
+		if (clueInstance != null && clueInstance.getClueSteps().size() == 1)
 		{
-			Clues cluePart = Clues.forClueIdFiltered(clueInstance.getClueIds().get(0));
+			Clues cluePart = Clues.forClueIdFiltered(clueInstance.getClueSteps().get(0));
 			if (cluePart != null)
 			{
 				return cluePart.getDetailColor(configManager);
@@ -81,6 +81,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.events.RuneScapeProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.plugins.Plugin;
@@ -190,6 +191,12 @@ public class ClueDetailsPlugin extends Plugin
 	@Inject
 	private ClueThreeStepSaver clueThreeStepSaver;
 
+	@Inject
+	private ClueDetailResolver clueDetailResolver;
+
+	@Inject
+	private ClueStateWriter clueStateWriter;
+
 	@Getter
 	@Inject
 	private ChatMessageManager chatMessageManager;
@@ -215,6 +222,9 @@ public class ClueDetailsPlugin extends Plugin
 	@Getter
 	private final List<ClueGroundTimer> clueGroundTimers = new ArrayList<>();
 
+	private static final int SAVE_INTERVAL_TICKS = 50;
+	private int ticksSinceSave;
+
 	@Getter
 	private ClueDetailsParentPanel panel;
 
@@ -246,12 +256,15 @@ public class ClueDetailsPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		clueStateWriter.startUp();
+		clueStateWriter.openProfile(configManager.getRSProfileKey());
+		clueDetailResolver.startUp();
 		startUpOverlays();
 
 		clueThreeStepSaver.startUp();
 		clueGroundManager.startUp();
 
-		Clues.rebuildFilteredCluesCache();
+		Clues.refreshEnabledTiers();
 
 		populateValidFairyRings();
 
@@ -277,6 +290,7 @@ public class ClueDetailsPlugin extends Plugin
 		shutDownOverlays();
 
 		clueGroundManager.shutDown();
+		clueDetailResolver.shutDown();
 
 		clientToolbar.removeNavigation(navButton);
 
@@ -291,6 +305,8 @@ public class ClueDetailsPlugin extends Plugin
 		worldMapPointManager.removeIf(ClueDetailsWorldMapPoint.class::isInstance);
 
 		resetIdleTimeout();
+
+		clueStateWriter.shutDown();
 	}
 
 	private void startUpOverlays()
@@ -435,6 +451,11 @@ public class ClueDetailsPlugin extends Plugin
 	@Subscribe
 	public void onGameStateChanged(GameStateChanged event)
 	{
+		if (event.getGameState() == GameState.LOADING)
+		{
+			clueGroundManager.onSceneLoading();
+		}
+
 		if (event.getGameState() == GameState.LOGIN_SCREEN)
 		{
 			clueGroundManager.saveStateToConfig();
@@ -447,6 +468,7 @@ public class ClueDetailsPlugin extends Plugin
 			if (profileChanged)
 			{
 				profileChanged = false;
+				clueStateWriter.openProfile(configManager.getRSProfileKey());
 				clueGroundManager.loadStateFromConfig();
 				clueBankManager.loadStateFromConfig();
 			}
@@ -459,6 +481,12 @@ public class ClueDetailsPlugin extends Plugin
 		profileChanged = true;
 	}
 
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event)
+	{
+		clueDetailResolver.reload();
+	}
+
 	@Subscribe
 	public void onClientTick(ClientTick event)
 	{
@@ -471,6 +499,14 @@ public class ClueDetailsPlugin extends Plugin
 		clueGroundManager.onGameTick();
 		clueInventoryManager.onGameTick();
 
+		// Saved as play goes on, so a crash only loses the last few moments
+		if (++ticksSinceSave >= SAVE_INTERVAL_TICKS)
+		{
+			ticksSinceSave = 0;
+			clueGroundManager.saveStateToConfig();
+			clueBankManager.saveStateToConfig();
+		}
+
 		currentPlane = client.getTopLevelWorldView().getPlane();
 
 		renderGroundClueTimers(); // TODO: Call more efficiently
@@ -543,6 +579,8 @@ public class ClueDetailsPlugin extends Plugin
 	@Subscribe
 	public void onConfigChanged(ConfigChanged event)
 	{
+		clueDetailResolver.onConfigChanged(event);
+
 		if (event.getGroup().equals("clue-details-highlights"))
 		{
 			infoOverlay.refreshHighlights();
@@ -555,7 +593,7 @@ public class ClueDetailsPlugin extends Plugin
 			|| event.getKey().equals("eliteDetails")
 			|| event.getKey().equals("masterDetails"))
 		{
-			Clues.rebuildFilteredCluesCache();
+			Clues.refreshEnabledTiers();
 			clueInventoryManager.updateLastInventoryRefreshTime();
 		}
 
@@ -618,6 +656,7 @@ public class ClueDetailsPlugin extends Plugin
 	{
 		clueGroundManager.saveStateToConfig();
 		clueBankManager.saveStateToConfig();
+		event.waitFor(clueStateWriter.flushAsync());
 	}
 
 	@Provides
@@ -638,65 +677,77 @@ public class ClueDetailsPlugin extends Plugin
 		Set<WorldPoint> worldPoints = clueGroundManager.getTrackedWorldPoints();
 
 		// Remove timers if worldPoint not managed by clueGroundManager
-		clueGroundTimers.removeIf(timer-> !worldPoints.contains(timer.getWorldPoint()));
+		clueGroundTimers.removeIf(timer -> !clueGroundManager.hasGroundCluesAt(timer.getWorldPoint()));
 		// Remove world map point if worldPoint not managed by clueGroundManager
-		worldMapPointManager.removeIf(worldMapPoint->
-			worldMapPoint instanceof ClueDetailsWorldMapPoint && !worldPoints.contains(worldMapPoint.getWorldPoint()));
+		worldMapPointManager.removeIf(worldMapPoint ->
+			worldMapPoint instanceof ClueDetailsWorldMapPoint && !clueGroundManager.hasGroundCluesAt(worldMapPoint.getWorldPoint()));
 
 		// Populate timers
 		for (WorldPoint worldPoint : worldPoints)
 		{
-			TreeMap<ClueInstance, Integer> clueInstancesWithQuantityAtWp = clueGroundManager.getClueInstancesWithQuantityAtWp(config, worldPoint);
-
-			if (clueInstancesWithQuantityAtWp != null && clueInstancesWithQuantityAtWp.firstEntry() != null)
-			{
-				// Find oldest enabled clue instance at the world point
-				ClueInstance oldestEnabledClueInstance = clueInstancesWithQuantityAtWp.firstEntry().getKey();
-				for (ClueInstance clueInstance : clueInstancesWithQuantityAtWp.keySet())
-				{
-					if (clueInstance.isEnabled(config))
-					{
-						oldestEnabledClueInstance =  clueInstance;
-						break;
-					}
-				}
+			updateGroundClueTimer(worldPoint, clueGroundManager.getClueInstancesWithQuantityAtWp(config, worldPoint), false);
+		}
+		// Clues in regions that haven't loaded since login keep counting down too
+		for (Map.Entry<WorldPoint, TreeMap<ClueInstance, Integer>> unloadedStack : clueGroundManager.getUnloadedStacks().entrySet())
+		{
+			updateGroundClueTimer(unloadedStack.getKey(), unloadedStack.getValue(), true);
+		}
+	}
 
-				int despawnTick = oldestEnabledClueInstance.getDespawnTick();
+	private void updateGroundClueTimer(WorldPoint worldPoint, TreeMap<ClueInstance, Integer> clueInstancesWithQuantityAtWp, boolean skipDespawned)
+	{
+		if (clueInstancesWithQuantityAtWp == null || clueInstancesWithQuantityAtWp.firstEntry() == null) return;
 
-				boolean createNewTimer = true;
+		// Find oldest enabled clue instance at the world point
+		ClueInstance oldestEnabledClueInstance = clueInstancesWithQuantityAtWp.firstEntry().getKey();
+		for (ClueInstance clueInstance : clueInstancesWithQuantityAtWp.keySet())
+		{
+			// Saved stacks aren't removed as they despawn, so skip past the ones that already have
+			if (skipDespawned && clueInstance.getDespawnTick() <= client.getTickCount())
+			{
+				oldestEnabledClueInstance = null;
+				continue;
+			}
+			if (oldestEnabledClueInstance == null)
+			{
+				oldestEnabledClueInstance = clueInstance;
+			}
+			if (clueInstance.isEnabled(config))
+			{
+				oldestEnabledClueInstance =  clueInstance;
+				break;
+			}
+		}
+		if (oldestEnabledClueInstance == null) return;
 
-				// Update existing timers
-				for (ClueGroundTimer timer : clueGroundTimers)
-				{
-					if (worldPoint.equals(timer.getWorldPoint()))
-					{
-						timer.setClueInstancesWithQuantity(clueInstancesWithQuantityAtWp);
-						timer.setDespawnTick(despawnTick);
-						createNewTimer = false;
-						break;
-					}
-				}
+		int despawnTick = oldestEnabledClueInstance.getDespawnTick();
 
-				if (createNewTimer)
-				{
-					ClueGroundTimer timer = new ClueGroundTimer(
-						client,
-						this,
-						config,
-						configManager,
-						despawnTick,
-						worldPoint,
-						clueInstancesWithQuantityAtWp,
-						getClueScrollImage()
-					);
-					clueGroundTimers.add(timer);
-					infoBoxManager.addInfoBox(timer);
-					// Set menu entries
-					timer.getMenuEntries().add(new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, CLUE_GROUND_TIMER_CLEAR, CLUE_GROUND_TIMER_TARGET));
-					timer.getMenuEntries().add(new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, CLUE_GROUND_TIMER_LOCATE, CLUE_GROUND_TIMER_TARGET));
-				}
+		// Update existing timers
+		for (ClueGroundTimer timer : clueGroundTimers)
+		{
+			if (worldPoint.equals(timer.getWorldPoint()))
+			{
+				timer.setClueInstancesWithQuantity(clueInstancesWithQuantityAtWp);
+				timer.setDespawnTick(despawnTick);
+				return;
 			}
 		}
+
+		ClueGroundTimer timer = new ClueGroundTimer(
+			client,
+			this,
+			config,
+			configManager,
+			despawnTick,
+			worldPoint,
+			clueInstancesWithQuantityAtWp,
+			getClueScrollImage()
+		);
+		clueGroundTimers.add(timer);
+		infoBoxManager.addInfoBox(timer);
+		// Set menu entries
+		timer.getMenuEntries().add(new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, CLUE_GROUND_TIMER_CLEAR, CLUE_GROUND_TIMER_TARGET));
+		timer.getMenuEntries().add(new OverlayMenuEntry(MenuAction.RUNELITE_INFOBOX, CLUE_GROUND_TIMER_LOCATE, CLUE_GROUND_TIMER_TARGET));
 	}
 
 	@Subscribe
@@ -715,6 +766,8 @@ public class ClueDetailsPlugin extends Plugin
 			case CLUE_GROUND_TIMER_CLEAR:
 				infoBoxManager.removeInfoBox(clickedTimer);
 				clueGroundTimers.remove(clickedTimer);
+				// A saved stack is only cleared for good once its clues are tracked
+				clueGroundManager.loadSavedCluesAt(clickedTimer.getWorldPoint());
 				clueGroundManager.clearBeginnerAndMasterCluesAtWorldPoint(clickedTimer.getWorldPoint());
 				clueGroundManager.clearEasyToEliteCluesAtWorldPoint(clickedTimer.getWorldPoint());
 				break;
@@ -25,6 +25,7 @@
 package com.cluedetails;
 
 import com.cluedetails.filters.ClueTier;
+import com.google.common.annotations.VisibleForTesting;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -45,15 +46,22 @@ public class ClueGroundManager
 	private final ClueDetailsPlugin clueDetailsPlugin;
 	@Getter
 	private final ClueGroundSaveDataManager clueGroundSaveDataManager;
-	private final Set<Tile> itemHasSpawnedOnTileThisTick = new HashSet<>();
 	@Getter
 	private final List<ClueInstance> despawnedClueQueueForInventoryCheck = new ArrayList<>();
 	private final int MAX_DESPAWN_TIMER = 6100;
-	private Zone lastZone;
-	private Zone currentZone;
+	private static final int NO_ZONE = -1;
+	private int lastZone = NO_ZONE;
 	private final WorldPointToClueInstances trackedClues;
 
-	private final Set<Tile> resetEasyToEliteThisTick = new HashSet<>();
+	private final GroundEventBatch groundEventBatch = new GroundEventBatch();
+	// Set while a scene load is replaying ItemSpawned for the whole scene, until the next tick reconciles it in bulk
+	private boolean sceneReconcilePending;
+	// Set until the saved clues are read. Ground items are left alone until then, and the scene is matched up
+	// with the saved clues once they arrive.
+	private boolean isLoading;
+
+	// The tracked clues' modCount as of the last save, as the saved clues only change when they do
+	private int savedModCount = -1;
 
 	@Inject
 	public ClueGroundManager(Client client, ClueGroundSaveDataManager clueGroundSaveDataManager, ClueDetailsPlugin clueDetailsPlugin)
@@ -73,7 +81,8 @@ public class ClueGroundManager
 	public void shutDown()
 	{
 		// Need to clear incase the player toggles the plugin on/off on the same tick
-		resetEasyToEliteThisTick.clear();
+		groundEventBatch.clear();
+		sceneReconcilePending = false;
 	}
 
 	public SortedSet<ClueInstance> getAllGroundCluesOnWp(WorldPoint worldPoint)
@@ -87,25 +96,34 @@ public class ClueGroundManager
 		Tile tile = event.getTile();
 
 		if (!Clues.isClue(item.getId(), clueDetailsPlugin.isDeveloperMode())) return;
+		if (isLoading) return;
 
-		// If easy-elite task, we just override
-		if (!Clues.isBeginnerOrMasterClue(item.getId(), clueDetailsPlugin.isDeveloperMode()))
+		boolean isBeginnerOrMaster = Clues.isBeginnerOrMasterClue(item.getId(), clueDetailsPlugin.isDeveloperMode());
+		if (isBeginnerOrMaster)
 		{
-			resetEasyToEliteThisTick.add(tile);
-			return;
+			ClueInstance inventoryClue = clueDetailsPlugin.getClueInventoryManager().getClueByClueItemId(item.getId());
+			// If clue in inventory AND new clue appeared with fresh despawn timer, it must be the inventory item being dropped
+			// This is resolved immediately, even while the scene is pending, as it depends on the inventory as of the spawn
+			if (isNewGroundClue(item.getId(), item.getDespawnTime()) && inventoryClue != null)
+			{
+				ClueInstance newGroundClue = new ClueInstance(inventoryClue.getClueSteps(), inventoryClue.getItemId(), tile.getWorldLocation(), item, true);
+				trackedClues.addClue(newGroundClue);
+				return;
+			}
 		}
 
-		ClueInstance inventoryClue = clueDetailsPlugin.getClueInventoryManager().getClueByClueItemId(item.getId());
-		// If clue in inventory AND new clue appeared with fresh despawn timer, it must be the inventory item being dropped
-		if (isNewGroundClue(item.getId(), item.getDespawnTime()) && inventoryClue != null)
+		// The whole scene gets reconciled next tick
+		if (sceneReconcilePending) return;
+
+		// If easy-elite task, we just override
+		if (!isBeginnerOrMaster)
 		{
-			ClueInstance newGroundClue = new ClueInstance(inventoryClue.getClueIds(), inventoryClue.getItemId(), tile.getWorldLocation(), item, true);
-			trackedClues.addClue(newGroundClue);
+			groundEventBatch.addEasyToEliteSpawn(tile, item);
 			return;
 		}
 
 		// Handle items spawned on tile without aligned times and not dropped
-		itemHasSpawnedOnTileThisTick.add(tile);
+		groundEventBatch.addRelativeTimerSpawn(tile, item);
 	}
 
 	private boolean isNewGroundClue(int itemID, int despawnTick)
@@ -115,7 +133,7 @@ public class ClueGroundManager
 		if (ticksToDespawn == MAX_DESPAWN_TIMER) return true;
 
 		return clueDetailsPlugin.isDeveloperMode() &&
-			Clues.DEV_MODE_IDS.contains(itemID) &&
+			Clues.isDevModeItem(itemID) &&
 			despawnTick >= 300;
 	}
 
@@ -123,35 +141,38 @@ public class ClueGroundManager
 	{
 		TileItem item = event.getItem();
 		if (!Clues.isClue(item.getId(), clueDetailsPlugin.isDeveloperMode())) return;
+		if (isLoading) return;
+
+		// Appeared and vanished within the tick without ever being tracked, so there's nothing to reconcile
+		if (groundEventBatch.cancelSpawn(item) && trackedClues.getClueForTileItem(item) == null) return;
+
+		// Handled straight away rather than batched, as a pickup needs to be queued before the
+		// ItemContainerChanged for it checks the queue
 		WorldPoint location = event.getTile().getWorldLocation();
 
 		// Only process events where the actual item has just despawned
 		// This helps to retain identified clues
-		if (event.getItem().getId() == ItemID.TRAIL_CLUE_BEGINNER
-			|| event.getItem().getId() == ItemID.TRAIL_CLUE_MASTER)
+		if (item.getId() == ItemID.TRAIL_CLUE_BEGINNER
+			|| item.getId() == ItemID.TRAIL_CLUE_MASTER)
 		{
 			if (ClueDetailsPlugin.getCurrentPlane() != location.getPlane()) return;
 		}
 
+		ClueInstance trackedClue = trackedClues.getClueForTileItem(item);
+
+		// Catch despawn in vicinity
+		if (trackedClue == null) return;
+
 		if (!Clues.isBeginnerOrMasterClue(item.getId(), clueDetailsPlugin.isDeveloperMode()))
 		{
-			ClueInstance clueInstance = new ClueInstance(List.of(), item.getId(), location, item, client.getTickCount());
-			trackedClues.removeClue(clueInstance);
+			trackedClues.removeClue(trackedClue);
 			return;
 		}
 
-		List<ClueInstance> cluesAtLocation = trackedClues.getBeginnerAndMasterCluesAtWorldPoint(location);
-
-		// Catch despawn in vicinity
-		if (cluesAtLocation == null) return;
-
 		// If no logging out/reloading and such happens, despawnTime remains off by 1, so need to account for it
 		if (item.getDespawnTime() - client.getTickCount() <= 1)
 		{
-			Optional<ClueInstance> optionalClue = cluesAtLocation.stream()
-				.filter((clue) -> clue.getTileItem() == item)
-				.findFirst();
-			optionalClue.ifPresent((trackedClues::removeClue));
+			trackedClues.removeClue(trackedClue);
 			return;
 		}
 
@@ -164,12 +185,13 @@ public class ClueGroundManager
 		// 1. Picked up the clue
 		// 2. Done nothing, clue is still there just with a new ID
 		// We know it's 2 if we've gone from 5 zones distance to 4 zones distance
-		Zone clueZone = new Zone(location);
-		Zone currentZone = new Zone(client.getLocalPlayer().getWorldLocation());
-		if (lastZone != null)
+		// The player's zone is read here rather than at the last tick, as they'll have moved since then
+		int clueZone = PackedWorldPoint.zoneOf(location);
+		if (lastZone != NO_ZONE)
 		{
-			int distFromLastZone = clueZone.maxDistanceTo(lastZone);
-			int distFromCurrentZone = clueZone.maxDistanceTo(currentZone);
+			int currentZone = PackedWorldPoint.zoneOf(client.getLocalPlayer().getWorldLocation());
+			int distFromLastZone = PackedWorldPoint.zoneDistance(clueZone, lastZone);
+			int distFromCurrentZone = PackedWorldPoint.zoneDistance(clueZone, currentZone);
 			if (distFromLastZone == 4 && distFromCurrentZone == 3)
 			{
 				return;
@@ -177,11 +199,14 @@ public class ClueGroundManager
 		}
 
 		// Not gone over a zone to load, probably picked up
-		Optional<ClueInstance> optionalClue = cluesAtLocation.stream()
-			.filter((clue) -> clue.getTileItem() == item)
-			.findFirst();
-		optionalClue.ifPresent(despawnedClueQueueForInventoryCheck::add);
-		optionalClue.ifPresent((trackedClues::removeClue));
+		despawnedClueQueueForInventoryCheck.add(trackedClue);
+		trackedClues.removeClue(trackedClue);
+	}
+
+	@VisibleForTesting
+	WorldPointToClueInstances getTrackedClues()
+	{
+		return trackedClues;
 	}
 
 	public Set<WorldPoint> getTrackedWorldPoints()
@@ -191,21 +216,90 @@ public class ClueGroundManager
 
 	public void onGameTick()
 	{
-		currentZone = new Zone(client.getLocalPlayer().getWorldLocation());
+		int currentZone = PackedWorldPoint.zoneOf(client.getLocalPlayer().getWorldLocation());
+		if (isLoading)
+		{
+			lastZone = currentZone;
+			return;
+		}
 		trackedClues.clearEmptyTiles(currentZone);
 
-		for (Tile tile : itemHasSpawnedOnTileThisTick)
+		if (sceneReconcilePending)
 		{
-			checkClueThroughRelativeDespawnTimers(tile);
+			sceneReconcilePending = false;
+			collectSceneClueTiles();
+		}
+
+		// Empty checks skip creating iterators on the usual tick where nothing spawned
+		if (!groundEventBatch.getRelativeTimerTiles().isEmpty())
+		{
+			for (Tile tile : groundEventBatch.getRelativeTimerTiles())
+			{
+				checkClueThroughRelativeDespawnTimers(tile);
+			}
 		}
-		itemHasSpawnedOnTileThisTick.clear();
 		trackedClues.removeDespawnedClues();
-		resetEasyToEliteThisTick.forEach(this::createEasyToEliteForTile);
-		resetEasyToEliteThisTick.clear();
+		if (!groundEventBatch.getEasyToEliteTiles().isEmpty())
+		{
+			for (Tile tile : groundEventBatch.getEasyToEliteTiles())
+			{
+				createEasyToEliteForTile(tile);
+			}
+		}
+		groundEventBatch.clear();
 
 		lastZone = currentZone;
 	}
 
+	/**
+	 * Called when the scene starts loading. Rather than handling the ItemSpawned replayed for every item in the
+	 * new scene one at a time, the next tick takes one pass over the scene's ground items.
+	 */
+	public void onSceneLoading()
+	{
+		sceneReconcilePending = true;
+		// The scene's regions are loaded along with the rest of the save
+		if (isLoading) return;
+		// Before the scene's items are reconciled, so saved clues in newly entered regions are matched up with them
+		overwriteGroundClues(clueGroundSaveDataManager.loadRegions(getSceneRegions()));
+	}
+
+	private int[] getSceneRegions()
+	{
+		WorldView worldView = client.getTopLevelWorldView();
+		return worldView == null ? null : worldView.getMapRegions();
+	}
+
+	private void collectSceneClueTiles()
+	{
+		Tile[][][] sceneTiles = client.getTopLevelWorldView().getScene().getTiles();
+		for (Tile[][] planeTiles : sceneTiles)
+		{
+			for (Tile[] columnTiles : planeTiles)
+			{
+				for (Tile tile : columnTiles)
+				{
+					if (tile == null) continue;
+
+					List<TileItem> items = tile.getGroundItems();
+					if (items == null) continue;
+
+					for (TileItem item : items)
+					{
+						if (Clues.isBeginnerOrMasterClue(item.getId(), clueDetailsPlugin.isDeveloperMode()))
+						{
+							groundEventBatch.getRelativeTimerTiles().add(tile);
+						}
+						else if (Clues.isClue(item.getId(), clueDetailsPlugin.isDeveloperMode()))
+						{
+							groundEventBatch.getEasyToEliteTiles().add(tile);
+						}
+					}
+				}
+			}
+		}
+	}
+
 	private void createEasyToEliteForTile(Tile tile)
 	{
 
@@ -218,27 +312,21 @@ public class ClueGroundManager
 		{
 			if (Clues.isClue(item.getId(), clueDetailsPlugin.isDeveloperMode()) && !Clues.isBeginnerOrMasterClue(item.getId(), clueDetailsPlugin.isDeveloperMode()))
 			{
-				ClueInstance clueInstance = new ClueInstance(List.of(), item.getId(), tile.getWorldLocation(), item, client.getTickCount());
+				ClueInstance clueInstance = new ClueInstance(ClueSteps.NONE, item.getId(), tile.getWorldLocation(), item, client.getTickCount());
 				trackedClues.addClue(clueInstance);
 			}
 		}
 
-		SortedSet<ClueInstance> cluesAtWp = trackedClues.getAllCluesAtWorldPoint(tile.getWorldLocation());
 		for (int i = 0; i < items.size(); i++)
 		{
 			TileItem tileItem = items.get(i);
 			int finalI = i + 1;
-			cluesAtWp.stream()
-				.filter((clueInstance -> clueInstance.getTileItem() == tileItem))
-				.findFirst()
-				.ifPresent((clueInstance -> clueInstance.setSequenceNumber(finalI)));
-		}
-		List<ClueInstance> clues = new ArrayList<>(cluesAtWp);
-		for (ClueInstance clueInstance : clues)
-		{
-			// Re-sorts the order of clues
-			trackedClues.removeClue(clueInstance);
-			trackedClues.addClue(clueInstance);
+			ClueInstance clueInstance = trackedClues.getClueForTileItem(tileItem);
+			if (clueInstance != null)
+			{
+				// Re-sorts the clue within the tile
+				trackedClues.rekeyClue(clueInstance, (clue) -> clue.setSequenceNumber(finalI));
+			}
 		}
 	}
 
@@ -252,26 +340,21 @@ public class ClueGroundManager
 			return;
 		}
 
-		List<ClueInstance> storedClues = trackedClues.getBeginnerAndMasterCluesAtWorldPoint(tileWp);
+		// Copied, as the tile is cleared below
+		List<ClueInstance> storedClues = new ArrayList<>(trackedClues.getBeginnerAndMasterCluesAtWorldPoint(tileWp));
 
-		List<ClueInstance> updatedStoredClues = generateNewCluesOnTile(tileWp, storedClues, itemsOnTile);
+		// Untrack before matching, as matching changes the stored clues' despawn ticks and so their sort keys
+		trackedClues.clearBeginnerAndMasterCluesAtWorldPoint(tileWp);
 
-		if (updatedStoredClues.isEmpty())
-		{
-			trackedClues.clearBeginnerAndMasterCluesAtWorldPoint(tileWp);
-		}
-		else
-		{
-			// If we didn't find an item for it on the tile, remove it
-			updatedStoredClues.removeIf((clue) -> clue.getTileItem() == null);
+		List<ClueInstance> updatedStoredClues = generateNewCluesOnTile(tileWp, storedClues, itemsOnTile);
 
-			trackedClues.clearBeginnerAndMasterCluesAtWorldPoint(tileWp);
+		// If we didn't find an item for it on the tile, remove it
+		updatedStoredClues.removeIf((clue) -> clue.getTileItem() == null);
 
-			// Update the stored clues
-			for (ClueInstance updatedStoredClue : updatedStoredClues)
-			{
-				trackedClues.addClue(updatedStoredClue);
-			}
+		// Update the stored clues
+		for (ClueInstance updatedStoredClue : updatedStoredClues)
+		{
+			trackedClues.addClue(updatedStoredClue);
 		}
 	}
 
@@ -279,29 +362,20 @@ public class ClueGroundManager
 	{
 		int currentTick = client.getTickCount();
 
-		if (storedClues.size() == 1 && cluesOnTile.size() == 1)
-		{
-			// We assume it is the same clue. It is possible for it to be swapped with another clue though in
-			// another client/mobile, and this will be wrong
-			if (storedClues.get(0).getDespawnTick() >= cluesOnTile.get(0).getDespawnTime())
-			{
-				storedClues.get(0).setTileItem(cluesOnTile.get(0));
-				return storedClues;
-			}
-		}
-
 		List<ClueInstance> sortedStoredClues = new ArrayList<>(storedClues);
 		sortedStoredClues.sort(Comparator.comparingInt((clue) -> clue.getTicksToDespawnConsideringTileItem(currentTick)));
 
 		// If only 1 of either but not both, less certainty as can't use diffs.
 		// Could assume things like last clue expired, probs let's just assume nothing
-		if (storedClues.size() <= 1 || cluesOnTile.size() == 1)
+		// A lone clue on each side is left to ClueStackMatcher, which assumes they're the same clue
+		boolean isLoneClue = storedClues.size() == 1 && cluesOnTile.size() == 1;
+		if (!isLoneClue && (storedClues.size() <= 1 || cluesOnTile.size() == 1))
 		{
 			List<ClueInstance> actualCluesOnTile = new ArrayList<>();
 			// Set tile's clues to just be unknown for all clues on tile
 			for (TileItem groundClue : cluesOnTile)
 			{
-				ClueInstance clueInstance = new ClueInstance(List.of(),
+				ClueInstance clueInstance = new ClueInstance(ClueSteps.NONE,
 					groundClue.getId(),
 					tileWp,
 					groundClue,
@@ -329,55 +403,34 @@ public class ClueGroundManager
 			findMatchingClues(sortedItemsByItemID.get(itemID), groundItemsByItemID.get(itemID));
 		}
 		
-		List<ClueInstance> foundClues = new ArrayList<>();
+		Map<TileItem, ClueInstance> matchedClues = new IdentityHashMap<>();
+		for (ClueInstance storedClue : sortedStoredClues)
+		{
+			if (storedClue.getTileItem() != null)
+			{
+				matchedClues.putIfAbsent(storedClue.getTileItem(), storedClue);
+			}
+		}
 
-		cluesOnTile.stream()
-			.map(tileItem -> sortedStoredClues.stream()
-				.filter(clue -> clue.getTileItem() == tileItem)
-				.findFirst()
-				.orElseGet(() -> new ClueInstance(List.of(), tileItem.getId(), tileWp, tileItem, client.getTickCount())))
-			.forEach(foundClues::add);
+		List<ClueInstance> foundClues = new ArrayList<>();
+		for (TileItem tileItem : cluesOnTile)
+		{
+			ClueInstance matchedClue = matchedClues.get(tileItem);
+			if (matchedClue == null)
+			{
+				matchedClue = new ClueInstance(ClueSteps.NONE, tileItem.getId(), tileWp, tileItem, client.getTickCount());
+			}
+			foundClues.add(matchedClue);
+		}
 
 		return foundClues;
 	}
 
 	private void findMatchingClues(List<ClueInstance> sortedStoredClues, List<TileItem> sortedGroundClues)
 	{
-		// Need to loop diffs, and see matches in each.
 		// For items with the same ID, no matter what item you click in a stack, you will always pick up the first item dropped in the stack
 		// This means we don't need to worry about considering gaps where a clue has been taken from the middle of a stack.
-		int minGroundItemFound = 0;
-
-		if (sortedStoredClues.size() == 1 && sortedGroundClues.size() == 1)
-		{
-			// We assume it is the same clue. It is possible for it to be swapped with another clue though in
-			// another client/mobile, and this will be wrong
-			if (sortedStoredClues.get(0).getDespawnTick() >= sortedGroundClues.get(0).getDespawnTime())
-			{
-				sortedStoredClues.get(0).setTileItem(sortedGroundClues.get(0));
-				return;
-			}
-		}
-
-		for (int i = 0; i < sortedStoredClues.size() - 1; i++)
-		{
-			ClueInstance clueInstance1 = sortedStoredClues.get(i);
-			ClueInstance clueInstance2 = sortedStoredClues.get(i + 1);
-
-			TileItem groundClue1 = sortedGroundClues.get(minGroundItemFound);
-			TileItem groundClue2 = sortedGroundClues.get(minGroundItemFound + 1);
-
-			int currentStoredClueDiff = clueInstance2.getTimeToDespawnFromDataInTicks() - clueInstance1.getTimeToDespawnFromDataInTicks();
-			int currentGroundClueDiff = groundClue2.getDespawnTime() - groundClue1.getDespawnTime();
-			// Same diff, probs same thing
-			if (currentGroundClueDiff != currentStoredClueDiff) continue;
-			// If item will despawn later than the stored clue, it can't be it.
-			if (groundClue1.getDespawnTime() > clueInstance1.getDespawnTick()) continue;
-			if (groundClue2.getDespawnTime() > clueInstance2.getDespawnTick()) continue;
-			clueInstance1.setTileItem(groundClue1);
-			clueInstance2.setTileItem(groundClue2);
-			minGroundItemFound++;
-		}
+		ClueStackMatcher.matchStack(sortedStoredClues, sortedGroundClues);
 
 		for (ClueInstance sortedStoredClue : sortedStoredClues)
 		{
@@ -409,18 +462,6 @@ public class ClueGroundManager
 			.collect(Collectors.toList());
 	}
 
-	class ClueInstanceComparator implements Comparator<ClueInstance>
-	{
-		@Override
-		public int compare(ClueInstance o1, ClueInstance o2)
-		{
-			return Comparator
-				.comparingLong(ClueInstance::getSequenceNumber)
-				.thenComparingInt(ClueInstance::getDespawnTick)
-				.compare(o1, o2);
-		}
-	}
-
 	public TreeMap<ClueInstance, Integer> getClueInstancesWithQuantityAtWp(ClueDetailsConfig config, WorldPoint wp)
 	{
 		if (!trackedClues.getAllTrackedWorldPoints().contains(wp)) return null;
@@ -445,8 +486,7 @@ public class ClueGroundManager
 		}
 
 		// Sort ClueInstances by despawn time
-		ClueInstanceComparator clueInstanceComparator = new ClueInstanceComparator();
-		TreeMap<ClueInstance, Integer> clueInstancesWithQuantityAtWp = new TreeMap<>(clueInstanceComparator);
+		TreeMap<ClueInstance, Integer> clueInstancesWithQuantityAtWp = new TreeMap<>(ClueInstance.SEQUENCE_ORDER);
 		clueInstancesWithQuantityAtWp.putAll(groundItemMap);
 		return clueInstancesWithQuantityAtWp;
 	}
@@ -454,27 +494,27 @@ public class ClueGroundManager
 	// Remove duplicate step clues, maintaining a count of the original amount of each
 	public static Map<ClueInstance, Integer> keepOldestUniqueClues(SortedSet<ClueInstance> items)
 	{
-		Map<List<Integer>, ClueInstance> lowestValueItems = new HashMap<>();
-		Map<List<Integer>, Integer> uniqueCount = new HashMap<>();
+		Map<ClueSteps, ClueInstance> lowestValueItems = new HashMap<>();
+		Map<ClueSteps, Integer> uniqueCount = new HashMap<>();
 
 		for (ClueInstance item : items)
 		{
-			List<Integer> clueIds = item.getUniqueIds();
+			ClueSteps clueSteps = item.getUniqueSteps();
 
-			if (!lowestValueItems.containsKey(clueIds)
-				|| item.getDespawnTick() < lowestValueItems.get(clueIds).getDespawnTick())
+			if (!lowestValueItems.containsKey(clueSteps)
+				|| item.getDespawnTick() < lowestValueItems.get(clueSteps).getDespawnTick())
 			{
-				lowestValueItems.put(clueIds, item);
-				uniqueCount.put(clueIds, 1);
+				lowestValueItems.put(clueSteps, item);
+				uniqueCount.put(clueSteps, 1);
 			}
 			else
 			{
-				uniqueCount.put(clueIds, uniqueCount.get(clueIds) + 1);
+				uniqueCount.put(clueSteps, uniqueCount.get(clueSteps) + 1);
 			}
 		}
 
 		return lowestValueItems.values().stream()
-			.collect(Collectors.toMap(item -> item, item -> uniqueCount.get(item.getUniqueIds())));
+			.collect(Collectors.toMap(item -> item, item -> uniqueCount.get(item.getUniqueSteps())));
 	}
 
 	// Remove duplicate tier clues, maintaining a count of the original amount of each
@@ -503,6 +543,32 @@ public class ClueGroundManager
 			.collect(Collectors.toMap(item -> item, item ->	uniqueCount.get(item.getTier())));
 	}
 
+	/**
+	 * @see ClueGroundSaveDataManager#getUnloadedStacks()
+	 */
+	public Map<WorldPoint, TreeMap<ClueInstance, Integer>> getUnloadedStacks()
+	{
+		if (isLoading) return Collections.emptyMap();
+		return clueGroundSaveDataManager.getUnloadedStacks();
+	}
+
+	/**
+	 * @return whether there are clues at the location, tracked or in a saved region not yet loaded
+	 */
+	public boolean hasGroundCluesAt(WorldPoint wp)
+	{
+		return trackedClues.getAllTrackedWorldPoints().contains(wp) || getUnloadedStacks().containsKey(wp);
+	}
+
+	/**
+	 * Starts tracking the saved clues in the location's region, if it hasn't been loaded yet
+	 */
+	public void loadSavedCluesAt(WorldPoint wp)
+	{
+		if (isLoading) return;
+		overwriteGroundClues(clueGroundSaveDataManager.loadRegions(new int[]{ PackedWorldPoint.regionOf(wp.getX(), wp.getY()) }));
+	}
+
 	public void clearBeginnerAndMasterCluesAtWorldPoint(WorldPoint wp)
 	{
 		trackedClues.clearBeginnerAndMasterCluesAtWorldPoint(wp);
@@ -515,13 +581,55 @@ public class ClueGroundManager
 
 	public void saveStateToConfig()
 	{
-		clueGroundSaveDataManager.saveStateToConfig(trackedClues.getAllClues());
+		// Would save over clues that haven't been read yet
+		if (isLoading) return;
+
+		if (trackedClues.getModCount() == savedModCount)
+		{
+			// Only how long they've been counting down for has changed
+			clueGroundSaveDataManager.saveDirectory();
+			return;
+		}
+
+		// Clues can be tracked in regions no scene has listed, such as in instances, so bring in what's saved
+		// there before it gets overwritten
+		List<ClueInstance> groundClues = trackedClues.getAllClues();
+		int[] regions = new int[groundClues.size()];
+		for (int i = 0; i < regions.length; i++)
+		{
+			WorldPoint location = groundClues.get(i).getLocation();
+			regions[i] = PackedWorldPoint.regionOf(location.getX(), location.getY());
+		}
+		Map<WorldPoint, List<ClueInstance>> unloadedClues = clueGroundSaveDataManager.loadRegions(regions);
+		if (!unloadedClues.isEmpty())
+		{
+			overwriteGroundClues(unloadedClues);
+			groundClues = trackedClues.getAllClues();
+		}
+
+		clueGroundSaveDataManager.saveStateToConfig(groundClues);
+		markSaved();
 	}
 
 	public void loadStateFromConfig()
 	{
 		trackedClues.clearAllClues();
-		overwriteGroundClues(clueGroundSaveDataManager.loadStateFromConfig());
+		groundEventBatch.clear();
+		isLoading = true;
+		clueGroundSaveDataManager.loadStateFromConfig(legacyClues ->
+		{
+			isLoading = false;
+			overwriteGroundClues(legacyClues);
+			overwriteGroundClues(clueGroundSaveDataManager.loadRegions(getSceneRegions()));
+			// Ground items seen while loading were skipped, so go over the whole scene
+			sceneReconcilePending = true;
+			markSaved();
+		});
+	}
+
+	private void markSaved()
+	{
+		savedModCount = trackedClues.getModCount();
 	}
 
 	private void overwriteGroundClues(Map<WorldPoint, List<ClueInstance>> newGroundClues)
@@ -169,7 +169,7 @@ public class ClueGroundOverlay extends Overlay
 	private boolean isSavedThreeStepper(ClueInstance clueInstance)
 	{
 		if (clueThreeStepSaver.getSavedThreeStepper() == null || !config.threeStepperSaver()) return false;
-		return clueInstance.getClueIds().equals(clueThreeStepSaver.getSavedThreeStepper().getClueIds());
+		return clueInstance.getClueSteps().equals(clueThreeStepSaver.getSavedThreeStepper().getClueSteps());
 	}
 
 	private int getSecondsLeft(ClueInstance item)
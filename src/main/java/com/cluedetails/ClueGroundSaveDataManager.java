@@ -28,100 +28,394 @@ import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.coords.WorldPoint;
-import net.runelite.client.config.ConfigManager;
 
+/**
+ * Saves ground clues under one key per 64x64 map region, listed in a region directory, so that only the regions
+ * around the player need turning back into live clues. Other regions stay saved until a scene that contains
+ * them loads.
+ * <p>
+ * Despawn ticks are saved against a base that stays fixed while the clues do, with the directory recording how
+ * long each region has counted down since. A region whose clues haven't changed saves to the same value, so
+ * only the directory changes as time passes.
+ */
+@Slf4j
 @Singleton
 public class ClueGroundSaveDataManager
 {
 	private final Client client;
-	private final ConfigManager configManager;
 	private final Gson gson;
-	private static final String CONFIG_GROUP = "clue-details";
+	private final ClueStateWriter clueStateWriter;
+	// Everything in one value, from before clues were saved per region
 	private static final String GROUND_CLUES_KEY = "ground-clues";
-	private final List<ClueInstanceData> clueInstanceData = new ArrayList<>();
+	private static final String REGION_DIRECTORY_KEY = "ground-clue-regions";
+	private static final String REGION_KEY_PREFIX = "ground-clues-";
+	// Per item ID summaries of every saved stack, so unloaded regions can still show timers
+	private static final String STACK_SUMMARY_KEY = "ground-clue-stacks";
+	private static final List<String> LOAD_KEYS = List.of(GROUND_CLUES_KEY, REGION_DIRECTORY_KEY, STACK_SUMMARY_KEY);
+
+	// Regions that currently have a saved key, keyed by region id
+	private final IntObjectMap<SavedRegion> savedRegions = new IntObjectMap<>();
+	// Regions loaded since the directory was read, whose saved clues are now tracked live
+	private final BitSet loadedRegions = new BitSet();
+	private boolean hasLegacySave;
+	private int loadTick;
+
+	// Summaries of the stacks in saved regions not yet loaded, keyed by region id
+	private final IntObjectMap<List<SavedStack>> unloadedStacks = new IntObjectMap<>();
+	// The same stacks as a stand-in clue per item ID with its count, earliest despawn first
+	private final Map<WorldPoint, TreeMap<ClueInstance, Integer>> unloadedStackClues = new HashMap<>();
+	private final Map<WorldPoint, TreeMap<ClueInstance, Integer>> unloadedStackCluesView = Collections.unmodifiableMap(unloadedStackClues);
 
 	@Inject
-	public ClueGroundSaveDataManager(Client client, ConfigManager configManager, Gson gson)
+	public ClueGroundSaveDataManager(Client client, Gson gson, ClueStateWriter clueStateWriter)
 	{
 		this.client = client;
-		this.configManager = configManager;
 		this.gson = gson;
+		this.clueStateWriter = clueStateWriter;
 	}
 
 	public void saveStateToConfig(List<ClueInstance> groundClues)
 	{
-		// Serialize groundClues save to config
-		updateData(groundClues);
-		// Offset despawn time by current client tick count
-		for (ClueInstanceData data : clueInstanceData)
+		IntObjectMap<List<ClueInstanceData>> cluesByRegion = new IntObjectMap<>();
+		List<Integer> liveRegions = new ArrayList<>();
+		for (ClueInstance groundClue : groundClues)
+		{
+			ClueInstanceData data = new ClueInstanceData(groundClue);
+			int region = PackedWorldPoint.regionOf(data.getX(), data.getY());
+			SavedRegion savedRegion = savedRegions.get(region);
+			// Regions first saved this session count down from the load
+			int elapsedTicks = savedRegion == null ? 0 : savedRegion.getElapsedTicks();
+			data.setDespawnTick(data.getDespawnTick() - loadTick + elapsedTicks);
+
+			List<ClueInstanceData> regionData = cluesByRegion.get(region);
+			if (regionData == null)
+			{
+				regionData = new ArrayList<>();
+				cluesByRegion.put(region, regionData);
+				liveRegions.add(region);
+			}
+			regionData.add(data);
+		}
+
+		for (int region : liveRegions)
+		{
+			List<ClueInstanceData> snapshot = cluesByRegion.get(region);
+			clueStateWriter.write(REGION_KEY_PREFIX + region, () -> ClueInstanceDataCodec.encode(snapshot));
+		}
+
+		// Loaded regions with nothing left in them
+		List<Integer> emptiedRegions = new ArrayList<>();
+		for (SavedRegion savedRegion : savedRegions.values())
+		{
+			int region = savedRegion.getRegionId();
+			if (loadedRegions.get(region) && !cluesByRegion.containsKey(region))
+			{
+				emptiedRegions.add(region);
+			}
+		}
+		for (int region : emptiedRegions)
+		{
+			clueStateWriter.write(REGION_KEY_PREFIX + region, () -> null);
+			savedRegions.remove(region);
+		}
+		for (int region : liveRegions)
 		{
-			data.setDespawnTick(data.getDespawnTick() - client.getTickCount());
+			if (!savedRegions.containsKey(region))
+			{
+				savedRegions.put(region, new SavedRegion(region, 0));
+			}
+			loadedRegions.set(region);
+		}
+
+		saveDirectory();
+		saveStackSummary(cluesByRegion, liveRegions);
+
+		if (hasLegacySave)
+		{
+			hasLegacySave = false;
+			clueStateWriter.write(GROUND_CLUES_KEY, () -> null);
 		}
-		String groundCluesJson = gson.toJson(clueInstanceData);
-		configManager.setConfiguration(CONFIG_GROUP, GROUND_CLUES_KEY, groundCluesJson);
 	}
 
-	private void updateData(List<ClueInstance> groundClues)
+	/**
+	 * Records how long every saved region has been counting down for. This is all that changes in the save while
+	 * the clues themselves don't.
+	 */
+	public void saveDirectory()
 	{
-		List<ClueInstanceData> newData = new ArrayList<>();
-		for (ClueInstance groundClue : groundClues)
+		int ticksSinceLoad = client.getTickCount() - loadTick;
+		StringBuilder directory = new StringBuilder();
+		for (SavedRegion savedRegion : savedRegions.values())
+		{
+			appendDirectoryEntry(directory, savedRegion.getRegionId(), savedRegion.getElapsedTicks() + ticksSinceLoad);
+		}
+		String directorySnapshot = directory.toString();
+		clueStateWriter.write(REGION_DIRECTORY_KEY, () -> directorySnapshot);
+	}
+
+	private void saveStackSummary(IntObjectMap<List<ClueInstanceData>> cluesByRegion, List<Integer> liveRegions)
+	{
+		// Count and earliest despawn, by packed point then item ID, so the same stacks always save the same way
+		TreeMap<Long, int[]> stacks = new TreeMap<>();
+		for (int region : liveRegions)
+		{
+			for (ClueInstanceData data : cluesByRegion.get(region))
+			{
+				long key = stackKey(PackedWorldPoint.pack(data.getX(), data.getY(), data.getPlane()), data.getItemId());
+				int[] stack = stacks.computeIfAbsent(key, k -> new int[]{ 0, Integer.MAX_VALUE });
+				stack[0]++;
+				stack[1] = Math.min(stack[1], data.getDespawnTick());
+			}
+		}
+		for (List<SavedStack> regionStacks : unloadedStacks.values())
+		{
+			for (SavedStack stack : regionStacks)
+			{
+				stacks.put(stackKey(stack.getPackedPoint(), stack.getItemId()), new int[]{ stack.getCount(), stack.getEarliestDespawnTick() });
+			}
+		}
+
+		StringBuilder summary = new StringBuilder();
+		for (Map.Entry<Long, int[]> stack : stacks.entrySet())
+		{
+			if (summary.length() > 0)
+			{
+				summary.append(',');
+			}
+			long key = stack.getKey();
+			summary.append((int) (key >>> 32)).append(':').append((int) key).append(':')
+				.append(stack.getValue()[0]).append(':').append(stack.getValue()[1]);
+		}
+		String summarySnapshot = summary.length() == 0 ? null : summary.toString();
+		clueStateWriter.write(STACK_SUMMARY_KEY, () -> summarySnapshot);
+	}
+
+	private static long stackKey(int packedPoint, int itemId)
+	{
+		return ((long) packedPoint << 32) | itemId;
+	}
+
+	private static void appendDirectoryEntry(StringBuilder directory, int region, int elapsedTicks)
+	{
+		if (directory.length() > 0)
 		{
-			newData.add(new ClueInstanceData(groundClue));
+			directory.append(',');
 		}
-		clueInstanceData.clear();
-		clueInstanceData.addAll(newData);
+		directory.append(region).append(':').append(elapsedTicks);
+	}
+
+	/**
+	 * Reads the region directory off the client thread, then passes {@code onLoaded} any clues saved before they
+	 * were saved per region. Saved regions are loaded by {@link #loadRegions(int[])} from then on.
+	 */
+	public void loadStateFromConfig(Consumer<Map<WorldPoint, List<ClueInstance>>> onLoaded)
+	{
+		clueStateWriter.read(LOAD_KEYS, values -> onLoaded.accept(applyLoad(values)));
 	}
 
-	public Map<WorldPoint, List<ClueInstance>> loadStateFromConfig()
+	private Map<WorldPoint, List<ClueInstance>> applyLoad(Map<String, String> values)
 	{
-		String groundCluesJson = configManager.getConfiguration(CONFIG_GROUP, GROUND_CLUES_KEY);
-		clueInstanceData.clear();
+		savedRegions.clear();
+		loadedRegions.clear();
+		loadTick = client.getTickCount();
 
 		Map<WorldPoint, List<ClueInstance>> groundClues = new HashMap<>();
-		if (groundCluesJson != null)
+		String legacyData = values.get(GROUND_CLUES_KEY);
+		hasLegacySave = legacyData != null;
+		if (hasLegacySave)
 		{
+			// Loaded in full once, and split into regions by the next save
 			try
 			{
-				Type groundCluesType = new TypeToken<List<ClueInstanceData>>()
+				addClues(groundClues, decodeLegacy(legacyData), 0);
+			}
+			catch (Exception err)
+			{
+				groundClues.clear();
+			}
+		}
+
+		String directory = values.get(REGION_DIRECTORY_KEY);
+		if (directory != null && !directory.isEmpty())
+		{
+			for (String entry : directory.split(","))
+			{
+				try
+				{
+					int separator = entry.indexOf(':');
+					int region = Integer.parseInt(entry.substring(0, separator));
+					int elapsedTicks = Integer.parseInt(entry.substring(separator + 1));
+					savedRegions.put(region, new SavedRegion(region, elapsedTicks));
+				}
+				catch (RuntimeException err)
 				{
-				}.getType();
+					log.debug("Skipping malformed ground clue region entry {}", entry);
+				}
+			}
+		}
+
+		loadStackSummary(values.get(STACK_SUMMARY_KEY));
+		return groundClues;
+	}
+
+	private void loadStackSummary(String summary)
+	{
+		unloadedStacks.clear();
+		unloadedStackClues.clear();
+		if (summary == null || summary.isEmpty()) return;
+
+		List<SavedStack> stacks = new ArrayList<>();
+		for (String entry : summary.split(","))
+		{
+			try
+			{
+				String[] fields = entry.split(":");
+				int packedPoint = Integer.parseInt(fields[0]);
+				int region = PackedWorldPoint.regionOf(PackedWorldPoint.getX(packedPoint), PackedWorldPoint.getY(packedPoint));
+				SavedRegion savedRegion = savedRegions.get(region);
+				if (savedRegion == null) continue;
 
-				List<ClueInstanceData> loadedGroundCluesData = gson.fromJson(groundCluesJson, groundCluesType);
+				SavedStack stack = new SavedStack(packedPoint, Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+					Integer.parseInt(fields[3]), savedRegion.getElapsedTicks());
+				stacks.add(stack);
 
-				// Convert ClueInstanceData back to ClueInstance
-				for (ClueInstanceData clueData : loadedGroundCluesData)
+				List<SavedStack> regionStacks = unloadedStacks.get(region);
+				if (regionStacks == null)
 				{
-					clueInstanceData.add(clueData);
-
-					WorldPoint location = clueData.getLocation();
-					ClueInstance clue = new ClueInstance(clueData);
-					// Offset despawn time by current client tick count
-					clue.setTimeToDespawnFromDataInTicks(clue.getTimeToDespawnFromDataInTicks() + client.getTickCount());
-					if (groundClues.containsKey(location))
-					{
-						groundClues.get(location).add(clue);
-						continue;
-					}
-
-					List<ClueInstance> clueInstances = new ArrayList<>();
-					clueInstances.add(clue);
-
-					groundClues.put(location, clueInstances);
+					regionStacks = new ArrayList<>();
+					unloadedStacks.put(region, regionStacks);
 				}
-			} catch (Exception err)
+				regionStacks.add(stack);
+			}
+			catch (RuntimeException err)
 			{
-				groundClues.clear();
-				saveStateToConfig(new ArrayList<>());
+				log.debug("Skipping malformed ground clue stack entry {}", entry);
 			}
 		}
 
+		// Created earliest despawn first, as that's the order stand-ins sort in
+		stacks.sort(Comparator.comparingInt(stack -> stack.getEarliestDespawnTick() - stack.getElapsedTicks()));
+		for (SavedStack stack : stacks)
+		{
+			int packedPoint = stack.getPackedPoint();
+			ClueInstanceData data = new ClueInstanceData(new int[0], stack.getItemId(),
+				stack.getEarliestDespawnTick() - stack.getElapsedTicks() + loadTick,
+				PackedWorldPoint.getX(packedPoint), PackedWorldPoint.getY(packedPoint), PackedWorldPoint.getPlane(packedPoint));
+			unloadedStackClues.computeIfAbsent(data.getLocation(), l -> new TreeMap<>(ClueInstance.SEQUENCE_ORDER))
+				.put(new ClueInstance(data), stack.getCount());
+		}
+	}
+
+	/**
+	 * @return a read-only view of the stacks in saved regions not yet loaded, as a stand-in clue per item ID at
+	 * each location with the earliest despawn of its clues and their count
+	 */
+	public Map<WorldPoint, TreeMap<ClueInstance, Integer>> getUnloadedStacks()
+	{
+		return unloadedStackCluesView;
+	}
+
+	/**
+	 * @return the saved clues of any of the given regions that haven't been loaded yet
+	 */
+	public Map<WorldPoint, List<ClueInstance>> loadRegions(int[] regions)
+	{
+		Map<WorldPoint, List<ClueInstance>> groundClues = new HashMap<>();
+		if (regions == null) return groundClues;
+
+		for (int region : regions)
+		{
+			if (loadedRegions.get(region)) continue;
+			loadedRegions.set(region);
+
+			List<SavedStack> regionStacks = unloadedStacks.remove(region);
+			if (regionStacks != null)
+			{
+				for (SavedStack stack : regionStacks)
+				{
+					int packedPoint = stack.getPackedPoint();
+					unloadedStackClues.remove(new WorldPoint(PackedWorldPoint.getX(packedPoint), PackedWorldPoint.getY(packedPoint),
+						PackedWorldPoint.getPlane(packedPoint)));
+				}
+			}
+
+			SavedRegion savedRegion = savedRegions.get(region);
+			if (savedRegion == null) continue;
+
+			String regionData = clueStateWriter.read(REGION_KEY_PREFIX + region);
+			if (regionData == null) continue;
+
+			try
+			{
+				addClues(groundClues, ClueInstanceDataCodec.decode(regionData), savedRegion.getElapsedTicks());
+			}
+			catch (Exception err)
+			{
+				// Dropped, and its key removed by the next save
+				log.debug("Discarding unreadable ground clues for region {}", region, err);
+			}
+		}
 		return groundClues;
 	}
+
+	private void addClues(Map<WorldPoint, List<ClueInstance>> groundClues, List<ClueInstanceData> loadedGroundCluesData, int elapsedTicks)
+	{
+		// Convert ClueInstanceData back to ClueInstance
+		for (ClueInstanceData clueData : loadedGroundCluesData)
+		{
+			WorldPoint location = clueData.getLocation();
+			ClueInstance clue = new ClueInstance(clueData);
+			// Back from the region's saved base to a client tick, less the time the region has counted down since
+			clue.setTimeToDespawnFromDataInTicks(clue.getTimeToDespawnFromDataInTicks() - elapsedTicks + loadTick);
+			groundClues.computeIfAbsent(location, k -> new ArrayList<>()).add(clue);
+		}
+	}
+
+	private List<ClueInstanceData> decodeLegacy(String groundCluesData)
+	{
+		if (ClueInstanceDataCodec.isEncoded(groundCluesData))
+		{
+			return ClueInstanceDataCodec.decode(groundCluesData);
+		}
+
+		// Saved before the binary format
+		Type groundCluesType = new TypeToken<List<ClueInstanceData>>()
+		{
+		}.getType();
+		return gson.fromJson(groundCluesData, groundCluesType);
+	}
+
+	@Value
+	private static class SavedRegion
+	{
+		int regionId;
+		// Ticks the region's saved despawn ticks had counted down for, as of the directory being read
+		int elapsedTicks;
+	}
+
+	@Value
+	private static class SavedStack
+	{
+		int packedPoint;
+		int itemId;
+		int count;
+		// Of the stack's clues with this item ID, against the region's saved base
+		int earliestDespawnTick;
+		// The region's, as of the directory being read
+		int elapsedTicks;
+	}
 }
@@ -29,7 +29,6 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 
 import java.util.Map;
-import java.util.Set;
 import java.util.TimerTask;
 import lombok.Getter;
 import lombok.Setter;
@@ -135,8 +134,7 @@ class ClueGroundTimer extends InfoBox
 				int quantity = entry.getValue();
 				String text = item.getGroundText(plugin, config, configManager, quantity);
 				Color color = item.getGroundColor(config, configManager);
-				String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-				stringBuilder.append("<col=").append(hexColor).append(">").append(text);
+				stringBuilder.append(ClueDetailResolver.colorTag(color)).append(text);
 				stringBuilder.append("<br>");
 			}
 		}
@@ -155,8 +153,7 @@ class ClueGroundTimer extends InfoBox
 	public boolean cull()
 	{
 		// Remove timers if worldPoint no managed by clueGroundManager
-		Set<WorldPoint> worldPoints = plugin.getClueGroundManager().getTrackedWorldPoints();
-		if (!worldPoints.contains(worldPoint))
+		if (!plugin.getClueGroundManager().hasGroundCluesAt(worldPoint))
 		{
 			return true;
 		}
@@ -167,8 +164,7 @@ class ClueGroundTimer extends InfoBox
 	private boolean activeWorldPoint()
 	{
 		// Remove timers if worldPoint not managed by clueGroundManager
-		Set<WorldPoint> worldPoints = plugin.getClueGroundManager().getTrackedWorldPoints();
-		return worldPoints.contains(worldPoint);
+		return plugin.getClueGroundManager().hasGroundCluesAt(worldPoint);
 	}
 
 	@Override
@@ -26,10 +26,10 @@ package com.cluedetails;
 
 import com.cluedetails.filters.ClueTier;
 import java.awt.Color;
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
@@ -44,9 +44,18 @@ import org.apache.commons.text.WordUtils;
 public class ClueInstance
 {
 	private static final AtomicLong sequenceGenerator = new AtomicLong();
+	private static final AtomicLong handleGenerator = new AtomicLong();
+	private static final int NOT_RESOLVED = -1;
 
-	@Setter
-	private List<Integer> clueIds; // Fake ID from ClueText
+	// Order clues were dropped in, the handle only breaks ties so no two clues compare as equal
+	public static final Comparator<ClueInstance> SEQUENCE_ORDER = Comparator
+		.comparingLong(ClueInstance::getSequenceNumber)
+		.thenComparingLong(ClueInstance::getHandle);
+
+	// Unlike the sequence number and despawn tick this never changes, so it is what equality and hashing use
+	private final long handle = handleGenerator.getAndIncrement();
+
+	private ClueSteps clueSteps; // Fake IDs from ClueText
 	private final int itemId; // Clue item ID
 	private final WorldPoint location; // Null if in inventory
 
@@ -58,10 +67,24 @@ public class ClueInstance
 	private TileItem tileItem;
 	private boolean isNewClue;
 
+	// Tier and enabled state as of Clues.getCacheEpoch(), dropped when the steps change
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private int tierEpoch = NOT_RESOLVED;
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private ClueTier tier;
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private int enabledEpoch = NOT_RESOLVED;
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private boolean enabled;
+
 	// Constructor for clues from config
 	public ClueInstance(ClueInstanceData data)
 	{
-		this.clueIds = data.getClueIds();
+		this.clueSteps = ClueSteps.of(data.getClueIds());
 		this.itemId = data.getItemId();
 		this.location = data.getLocation();
 		// if had on then turned off in same session, we don't know what happened in meantime.
@@ -73,9 +96,9 @@ public class ClueInstance
 	}
 
 	// Constructor for inventory clues from inventory changed event
-	public ClueInstance(List<Integer> clueIds, int itemId)
+	public ClueInstance(ClueSteps clueSteps, int itemId)
 	{
-		this.clueIds = clueIds;
+		this.clueSteps = clueSteps;
 		this.itemId = itemId;
 		this.location = null;
 		this.timeToDespawnFromDataInTicks = -1;
@@ -84,9 +107,9 @@ public class ClueInstance
 	}
 
 	// Constructor for ground clues
-	public ClueInstance(List<Integer> clueIds, int itemId, WorldPoint location, TileItem tileItem, int currentTick)
+	public ClueInstance(ClueSteps clueSteps, int itemId, WorldPoint location, TileItem tileItem, int currentTick)
 	{
-		this.clueIds = clueIds;
+		this.clueSteps = clueSteps;
 		this.itemId = itemId;
 		this.location = location;
 		this.tileItem = tileItem;
@@ -96,9 +119,9 @@ public class ClueInstance
 	}
 
 	// New clue on floor
-	public ClueInstance(List<Integer> clueIds, int itemId, WorldPoint location, TileItem tileItem, boolean isNewClue)
+	public ClueInstance(ClueSteps clueSteps, int itemId, WorldPoint location, TileItem tileItem, boolean isNewClue)
 	{
-		this.clueIds = clueIds;
+		this.clueSteps = clueSteps;
 		this.itemId = itemId;
 		this.location = location;
 		this.tileItem = tileItem;
@@ -108,36 +131,69 @@ public class ClueInstance
 		this.sequenceNumber = sequenceGenerator.getAndIncrement();
 	}
 
-	public List<Integer> getClueIds()
+	public ClueSteps getClueSteps()
 	{
-		if (clueIds.isEmpty() && !Clues.isBeginnerOrMasterClue(itemId, true))
+		if (clueSteps.isEmpty() && !Clues.isBeginnerOrMasterClue(itemId, true))
 		{
-			return Collections.singletonList(itemId);
+			return ClueSteps.of(itemId);
 		}
-		return clueIds;
+		return clueSteps;
 	}
 
-	public List<Integer> getUniqueIds()
+	public ClueSteps getUniqueSteps()
 	{
-		if (clueIds.isEmpty())
+		if (clueSteps.isEmpty())
 		{
-			return Collections.singletonList(itemId);
+			return ClueSteps.of(itemId);
 		}
 
-		return clueIds;
+		return clueSteps;
+	}
+
+	public List<Integer> getClueIds()
+	{
+		return getClueSteps().asList();
+	}
+
+	public void setClueSteps(ClueSteps clueSteps)
+	{
+		this.clueSteps = clueSteps;
+		this.tierEpoch = NOT_RESOLVED;
+		this.enabledEpoch = NOT_RESOLVED;
+	}
+
+	public void setClueIds(List<Integer> clueIds)
+	{
+		setClueSteps(ClueSteps.of(clueIds));
+	}
+
+	public List<Integer> getUniqueIds()
+	{
+		return getUniqueSteps().asList();
 	}
 
 	public ClueTier getTier()
+	{
+		int epoch = Clues.getCacheEpoch();
+		if (tierEpoch != epoch)
+		{
+			tier = lookUpTier();
+			tierEpoch = epoch;
+		}
+		return tier;
+	}
+
+	private ClueTier lookUpTier()
 	{
 		Clues clue;
 
-		if (clueIds.isEmpty())
+		if (clueSteps.isEmpty())
 		{
 			clue = Clues.forItemId(itemId);
 		}
 		else
 		{
-			clue = Clues.forClueId(getClueIds().get(0));
+			clue = Clues.forClueId(clueSteps.get(0));
 		}
 
 		if (clue == null)
@@ -152,10 +208,10 @@ public class ClueInstance
 	public String getGroundText(ClueDetailsPlugin plugin, ClueDetailsConfig config, ConfigManager configManager, int quantity)
 	{
 		StringBuilder itemStringBuilder = new StringBuilder();
-		List<Integer> clueIds = this.getClueIds();
+		ClueSteps steps = this.getClueSteps();
 		String clueText;
 
-		if (clueIds.isEmpty())
+		if (steps.isEmpty())
 		{
 			if (this.getTier() == null)
 			{
@@ -168,7 +224,7 @@ public class ClueInstance
 		}
 		else
 		{
-			int clueId = this.getClueIds().get(0);
+			int clueId = steps.get(0);
 			Clues clueDetails = Clues.forClueIdFiltered(clueId);
 
 			if (clueDetails == null)
@@ -178,7 +234,7 @@ public class ClueInstance
 
 			if (config.changeGroundClueText() && !config.collapseGroundCluesByTier())
 			{
-				if (clueIds.size() > 1)
+				if (steps.size() > 1)
 				{
 					clueText = "Three-step (master)";
 				}
@@ -206,11 +262,11 @@ public class ClueInstance
 	public Color getGroundColor(ClueDetailsConfig config, ConfigManager configManager)
 	{
 		Color color = Color.WHITE;
-		List<Integer> clueIds = this.getClueIds();
+		ClueSteps steps = this.getClueSteps();
 
-		if (!clueIds.isEmpty())
+		if (!steps.isEmpty())
 		{
-			int clueId = this.getClueIds().get(0);
+			int clueId = steps.get(0);
 			Clues clueDetails = Clues.forClueIdFiltered(clueId);
 
 			if (clueDetails == null)
@@ -251,12 +307,19 @@ public class ClueInstance
 	}
 
 	public String getCombinedClueText(ConfigManager configManager, boolean showColor, boolean isFloorText)
+	{
+		ClueDetailResolver resolver = Clues.getDetailResolver();
+		if (resolver != null) return resolver.getCombinedText(getClueSteps(), showColor, isFloorText);
+		return buildCombinedClueText(getClueSteps(), configManager, showColor, isFloorText);
+	}
+
+	static String buildCombinedClueText(ClueSteps steps, ConfigManager configManager, boolean showColor, boolean isFloorText)
 	{
 		StringBuilder returnText = new StringBuilder();
 		boolean isFirst = true;
-		for (Integer clueId : getClueIds())
+		for (int i = 0; i < steps.size(); i++)
 		{
-			Clues cluePart = Clues.forClueId(clueId);
+			Clues cluePart = Clues.forClueId(steps.get(i));
 			if (cluePart == null) continue;
 			if (isFirst)
 			{
@@ -267,19 +330,19 @@ public class ClueInstance
 				returnText.append("<br>");
 			}
 
-			if (showColor)
+			if (!showColor)
+			{
+				returnText.append(cluePart.getDetail(configManager));
+			}
+			else if (isFloorText)
 			{
-				Color color = cluePart.getDetailColor(configManager);
-
 				// Only change floor text color if it's not the default
-				if (!(isFloorText && color == Color.WHITE))
-				{
-					String hexColor = Integer.toHexString(color.getRGB()).substring(2);
-					returnText.append("<col=").append(hexColor).append(">");
-				}
+				returnText.append(cluePart.getFloorDetail(configManager));
+			}
+			else
+			{
+				returnText.append(cluePart.getColoredDetail(configManager));
 			}
-
-			returnText.append(cluePart.getDetail(configManager));
 		}
 		if (returnText.length() == 0) return null;
 		return returnText.toString();
@@ -287,35 +350,46 @@ public class ClueInstance
 
 	public boolean isEnabled(ClueDetailsConfig config)
 	{
-		if (Clues.DEV_MODE_IDS.contains(itemId))
+		int epoch = Clues.getCacheEpoch();
+		if (enabledEpoch != epoch)
+		{
+			enabled = lookUpEnabled(config, getTier());
+			enabledEpoch = epoch;
+		}
+		return enabled;
+	}
+
+	private boolean lookUpEnabled(ClueDetailsConfig config, ClueTier tier)
+	{
+		if (Clues.isDevModeItem(itemId))
 		{
 			return config.beginnerDetails();
 		}
-		else if (getTier() == ClueTier.BEGINNER)
+		else if (tier == ClueTier.BEGINNER)
 		{
 			return config.beginnerDetails();
 		}
-		else if (getTier() == ClueTier.EASY)
+		else if (tier == ClueTier.EASY)
 		{
 			return config.easyDetails();
 		}
-		else if (getTier() == ClueTier.MEDIUM)
+		else if (tier == ClueTier.MEDIUM)
 		{
 			return config.mediumDetails();
 		}
-		else if (getTier() == ClueTier.HARD)
+		else if (tier == ClueTier.HARD)
 		{
 			return config.hardDetails();
 		}
-		else if (getTier() == ClueTier.ELITE)
+		else if (tier == ClueTier.ELITE)
 		{
 			return config.eliteDetails();
 		}
-		else if (getTier() == ClueTier.MASTER)
+		else if (tier == ClueTier.MASTER)
 		{
 			return config.masterDetails();
 		}
-		else return getTier() != null;
+		else return tier != null;
 	}
 
 	@Override
@@ -323,34 +397,13 @@ public class ClueInstance
 	{
 		if (this == o) return true;
 		if (!(o instanceof ClueInstance)) return false;
-		ClueInstance clueInstance = (ClueInstance) o;
-
-		int diff1;
-		int diff2;
-		if (tileItem != null && clueInstance.tileItem != null)
-		{
-			diff1 = tileItem.getDespawnTime();
-			diff2 = clueInstance.tileItem.getDespawnTime();
-		}
-		else if (tileItem == null && clueInstance.tileItem == null)
-		{
-			diff1 = getDespawnTick();
-			diff2 = clueInstance.getDespawnTick();
-		}
-		else
-		{
-			return false;
-		}
-		// Should this really be considering it equal without consideration for the clueIds?
-		if (location == null) return false;
-		return itemId == clueInstance.itemId && diff1 == diff2 && location.equals(clueInstance.location);
+		return handle == ((ClueInstance) o).handle;
 	}
 
 	@Override
 	public int hashCode()
 	{
-		int despawnTime = getDespawnTick();
-		return Objects.hash(itemId, despawnTime, location);
+		return Long.hashCode(handle);
 	}
 
 	@Override
@@ -24,14 +24,15 @@
  */
 package com.cluedetails;
 
-import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import net.runelite.api.coords.WorldPoint;
 
 @Data
+@AllArgsConstructor
 public class ClueInstanceData
 {
-	private List<Integer> clueIds;
+	private int[] clueIds;
 	private int itemId;
 	private int despawnTick;
 	private int x;
@@ -40,7 +41,7 @@ public class ClueInstanceData
 
 	public ClueInstanceData(ClueInstance clue)
 	{
-		this.clueIds = clue.getClueIds();
+		this.clueIds = clue.getClueSteps().toArray();
 		this.itemId = clue.getItemId();
 		this.despawnTick = clue.getDespawnTick();
 		if (clue.getLocation() == null) return;
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of saved clue data, stored as base64 so it fits in a config string.
+ * Entries are sorted by packed world point so locations can be written as varint deltas, and each distinct
+ * set of clue steps is written once in a table that entries refer to by index.
+ */
+public final class ClueInstanceDataCodec
+{
+	// Legacy saves are Gson arrays, so always start with '['
+	static final char PREFIX = '#';
+	static final int VERSION = 1;
+
+	private ClueInstanceDataCodec()
+	{
+	}
+
+	public static boolean isEncoded(String value)
+	{
+		return value != null && !value.isEmpty() && value.charAt(0) == PREFIX;
+	}
+
+	public static String encode(List<ClueInstanceData> data)
+	{
+		int[] order = sortedByLocation(data);
+		int[] packedPoints = new int[data.size()];
+		for (int i = 0; i < data.size(); i++)
+		{
+			ClueInstanceData entry = data.get(i);
+			packedPoints[i] = PackedWorldPoint.pack(entry.getX(), entry.getY(), entry.getPlane());
+		}
+
+		Map<ClueSteps, Integer> stepIndexes = new HashMap<>();
+		List<ClueSteps> stepTable = new ArrayList<>();
+		int[] entrySteps = new int[data.size()];
+		for (int i = 0; i < data.size(); i++)
+		{
+			ClueSteps steps = ClueSteps.of(data.get(i).getClueIds());
+			Integer index = stepIndexes.get(steps);
+			if (index == null)
+			{
+				index = stepTable.size();
+				stepIndexes.put(steps, index);
+				stepTable.add(steps);
+			}
+			entrySteps[i] = index;
+		}
+
+		Writer out = new Writer(data.size() * 8 + stepTable.size() * 4 + 8);
+		out.writeByte(VERSION);
+		out.writeVarInt(stepTable.size());
+		for (ClueSteps steps : stepTable)
+		{
+			out.writeVarInt(steps.size());
+			for (int i = 0; i < steps.size(); i++)
+			{
+				out.writeSignedVarInt(steps.get(i));
+			}
+		}
+
+		out.writeVarInt(data.size());
+		int previousPoint = 0;
+		for (int i : order)
+		{
+			ClueInstanceData entry = data.get(i);
+			out.writeVarInt(packedPoints[i] - previousPoint);
+			previousPoint = packedPoints[i];
+			out.writeSignedVarInt(entry.getDespawnTick());
+			out.writeVarInt(entry.getItemId());
+			out.writeVarInt(entrySteps[i]);
+		}
+
+		return PREFIX + Base64.getEncoder().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the value isn't a supported encoding
+	 */
+	public static List<ClueInstanceData> decode(String value)
+	{
+		if (!isEncoded(value))
+		{
+			throw new IllegalArgumentException("Not encoded clue data");
+		}
+
+		Reader in = new Reader(Base64.getDecoder().decode(value.substring(1)));
+		int version = in.readByte();
+		if (version != VERSION)
+		{
+			throw new IllegalArgumentException("Unsupported clue data version " + version);
+		}
+
+		int[][] stepTable = new int[in.readVarInt()][];
+		for (int i = 0; i < stepTable.length; i++)
+		{
+			int[] steps = new int[in.readVarInt()];
+			for (int j = 0; j < steps.length; j++)
+			{
+				steps[j] = in.readSignedVarInt();
+			}
+			stepTable[i] = steps;
+		}
+
+		int count = in.readVarInt();
+		List<ClueInstanceData> data = new ArrayList<>(count);
+		int packedPoint = 0;
+		for (int i = 0; i < count; i++)
+		{
+			packedPoint += in.readVarInt();
+			int despawnTick = in.readSignedVarInt();
+			int itemId = in.readVarInt();
+			int[] steps = stepTable[in.readVarInt()];
+			data.add(new ClueInstanceData(steps.clone(), itemId, despawnTick,
+				PackedWorldPoint.getX(packedPoint), PackedWorldPoint.getY(packedPoint), PackedWorldPoint.getPlane(packedPoint)));
+		}
+		return data;
+	}
+
+	// Stable, so clues sharing a tile keep their saved order
+	private static int[] sortedByLocation(List<ClueInstanceData> data)
+	{
+		Integer[] order = new Integer[data.size()];
+		for (int i = 0; i < order.length; i++)
+		{
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) ->
+		{
+			ClueInstanceData first = data.get(a);
+			ClueInstanceData second = data.get(b);
+			return Integer.compare(PackedWorldPoint.pack(first.getX(), first.getY(), first.getPlane()),
+				PackedWorldPoint.pack(second.getX(), second.getY(), second.getPlane()));
+		});
+
+		int[] result = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+		{
+			result[i] = order[i];
+		}
+		return result;
+	}
+
+	private static final class Writer extends ByteArrayOutputStream
+	{
+		Writer(int size)
+		{
+			super(size);
+		}
+
+		void writeByte(int value)
+		{
+			write(value);
+		}
+
+		void writeVarInt(int value)
+		{
+			while ((value & ~0x7F) != 0)
+			{
+				write((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			write(value);
+		}
+
+		// Zigzag, so small negative values stay small
+		void writeSignedVarInt(int value)
+		{
+			writeVarInt((value << 1) ^ (value >> 31));
+		}
+	}
+
+	private static final class Reader
+	{
+		private final byte[] bytes;
+		private int position;
+
+		Reader(byte[] bytes)
+		{
+			this.bytes = bytes;
+		}
+
+		int readByte()
+		{
+			if (position >= bytes.length)
+			{
+				throw new IllegalArgumentException("Truncated clue data");
+			}
+			return bytes[position++] & 0xFF;
+		}
+
+		int readVarInt()
+		{
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7)
+			{
+				int b = readByte();
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0)
+				{
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed varint in clue data");
+		}
+
+		int readSignedVarInt()
+		{
+			int value = readVarInt();
+			return (value >>> 1) ^ -(value & 1);
+		}
+	}
+}
@@ -157,7 +157,7 @@ public class ClueInventoryManager
 			.findFirst();
 		if (clueFromFloorInInv.isPresent())
 		{
-			cluesInInventory.put(itemId, new ClueInstance(clueFromFloorInInv.get().getClueIds(), itemId));
+			cluesInInventory.put(itemId, new ClueInstance(clueFromFloorInInv.get().getClueSteps(), itemId));
 			return;
 		}
 
@@ -170,39 +170,43 @@ public class ClueInventoryManager
 		}
 		else
 		{
-			clueInstance = new ClueInstance(new ArrayList<>(), itemId);
+			clueInstance = new ClueInstance(ClueSteps.NONE, itemId);
 			cluesInInventory.put(itemId, clueInstance);
 		}
 	}
 
 	public void updateClueText(String clueText)
 	{
-		List<Integer> clueIds = new ArrayList<>();
-
 		// Allow for fake items to have info attached to them in dev mode
 		if (clueDetailsPlugin.isDeveloperMode())
 		{
 			for (Integer devModeId : Clues.DEV_MODE_IDS)
 			{
 				int randomTestId = (int) (Math.random() * 20);
-				cluesInInventory.put(devModeId, new ClueInstance(List.of(randomTestId), devModeId));
+				cluesInInventory.put(devModeId, new ClueInstance(ClueSteps.of(randomTestId), devModeId));
 			}
 		}
 
+		ClueSteps clueSteps;
 		ThreeStepCrypticClue threeStepCrypticClue = ThreeStepCrypticClue.forText(clueText);
 		if (threeStepCrypticClue != null)
 		{
-			for (Map.Entry<Clues, Boolean> clueStep : threeStepCrypticClue.getClueSteps())
+			List<Map.Entry<Clues, Boolean>> steps = threeStepCrypticClue.getClueSteps();
+			int[] stepIds = new int[steps.size()];
+			for (int i = 0; i < stepIds.length; i++)
 			{
-				clueIds.add(clueStep.getKey().getClueID());
+				stepIds[i] = steps.get(i).getKey().getClueID();
 			}
+			clueSteps = ClueSteps.of(stepIds);
 		}
 		else
 		{
-			clueIds.add(Clues.forTextGetId(clueText));
+			Integer clueId = Clues.forTextGetId(clueText);
+			if (clueId == null) return;
+			clueSteps = ClueSteps.of(clueId.intValue());
 		}
 
-		if (clueIds.get(0) == null) return;
+		if (clueSteps.isEmpty()) return;
 
 		Set<Integer> itemIDs = cluesInInventory.keySet();
 		for (Integer itemID : itemIDs)
@@ -210,10 +214,10 @@ public class ClueInventoryManager
 			ClueInstance clueInstance = cluesInInventory.get(itemID);
 			// Check that at least one part of the clue text matches the clue tier we're looking at
 			if (clueInstance == null) continue;
-			Clues clueInfo = Clues.forClueIdFiltered(clueIds.get(0));
+			Clues clueInfo = Clues.forClueIdFiltered(clueSteps.get(0));
 			if (clueInfo == null) continue;
 			if (!Objects.equals(clueInfo.getItemID(), itemID)) continue;
-			clueInstance.setClueIds(clueIds);
+			clueInstance.setClueSteps(clueSteps);
 			clueDetailsPlugin.getClueInventoryManager().updateLastInventoryRefreshTime();
 			break;
 		}
@@ -222,15 +226,13 @@ public class ClueInventoryManager
 	// Only used for Beginner Map Clues and Hot Cold Clues
 	public void updateClueText(Integer otherId, Integer itemId)
 	{
-		List<Integer> clueIds = new ArrayList<>();
-
 		// Beginner Map Clues all use the same ItemID, but the InterfaceID used to display them is unique
 		// Hot Cold Clues all use the same ItemID, but have a unique enum from Clue Scroll plugin
-		clueIds.add(Clues.forOtherIdGetId(otherId));
+		Integer clueId = Clues.forOtherIdGetId(otherId);
 
 		ClueInstance clueInInv = cluesInInventory.get(itemId);
 		if (clueInInv == null) return;
-		clueInInv.setClueIds(clueIds);
+		clueInInv.setClueSteps(clueId == null ? ClueSteps.NONE : ClueSteps.of(clueId.intValue()));
 		clueDetailsPlugin.getClueInventoryManager().updateLastInventoryRefreshTime();
 	}
 
@@ -475,32 +477,32 @@ public class ClueInventoryManager
 		if (isNewBeginnerClue(chatDialogClueItemWidget)
 			|| (isUriBeginnerClue(headModelWidget) && isUriStandardDialogue(npcChatWidget)))
 		{
-			resetClue(ItemID.CLUE_SCROLL_BEGINNER, List.of());
+			resetClue(ItemID.CLUE_SCROLL_BEGINNER, ClueSteps.NONE);
 		}
 		else if (isNewMasterClue(chatDialogClueItemWidget)
 			|| (isUriMasterClue(headModelWidget) && isUriStandardDialogue(npcChatWidget)))
 		{
-			resetClue(ItemID.CLUE_SCROLL_MASTER, List.of());
+			resetClue(ItemID.CLUE_SCROLL_MASTER, ClueSteps.NONE);
 		}
 		else if (isCharlieBeginnerClue(headModelWidget) && isCharlieTaskDialogue(npcChatWidget))
 		{
 			Integer clueID = getClueIdFromCharlie(npcChatWidget);
 			if (clueID == null) return;
-			resetClue(ItemID.CLUE_SCROLL_BEGINNER, List.of(clueID));
+			resetClue(ItemID.CLUE_SCROLL_BEGINNER, ClueSteps.of(clueID));
 		}
 		else if (isFaloMasterClue(headModelWidget) && isFaloLyricDialogue(npcChatWidget))
 		{
 			Integer clueID = getClueIdFromFalo(npcChatWidget);
 			if (clueID == null) return;
-			resetClue(ItemID.CLUE_SCROLL_MASTER, List.of(clueID));
+			resetClue(ItemID.CLUE_SCROLL_MASTER, ClueSteps.of(clueID));
 		}
 	}
 
-	private void resetClue(int itemID, List<Integer> clueIds)
+	private void resetClue(int itemID, ClueSteps clueSteps)
 	{
 		ClueInstance clue = cluesInInventory.get(itemID);
 		if (clue == null) return;
-		clue.setClueIds(clueIds);
+		clue.setClueSteps(clueSteps);
 		clueDetailsPlugin.getItemsOverlay().invalidateCache();
 		clueDetailsPlugin.getClueInventoryManager().updateLastInventoryRefreshTime();
 	}
@@ -551,9 +553,7 @@ public class ClueInventoryManager
 	private static Integer getClueIdFromCharlie(Widget npcChatWidget)
 	{
 		if (npcChatWidget.getText() == null) return null;
-		String clueText = BeginnerMasterClueText.forTaskGetClueText(npcChatWidget.getText());
-		if (clueText == null) return null;
-		return Clues.forTextGetId(clueText);
+		return BeginnerMasterClueText.forTaskGetClueId(npcChatWidget.getText());
 	}
 
 	private boolean isFaloMasterClue(Widget headModel)
@@ -571,9 +571,7 @@ public class ClueInventoryManager
 	private static Integer getClueIdFromFalo(Widget npcChatWidget)
 	{
 		if (npcChatWidget.getText() == null) return null;
-		String clueText = BeginnerMasterClueText.forLyricsGetClueText(npcChatWidget.getText());
-		if (clueText == null) return null;
-		return Clues.forTextGetId(clueText);
+		return BeginnerMasterClueText.forLyricsGetClueId(npcChatWidget.getText());
 	}
 
 	private boolean isEnabled(Integer itemId)
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.TileItem;
+
+/**
+ * Aligns the clues we have stored for a stack of one item ID against the items currently on the ground.
+ * <p>
+ * Stored despawn ticks can be behind the real ones by however long the game kept ticking without us seeing
+ * the stack, but that offset is shared by every clue dropped in the same stack. So the alignment picks the
+ * offset that the most stored/ground pairs agree on, and pairs up clues in order at that offset. Picked up
+ * clues and ground items we've never seen are simply left unmatched. A ground item can never despawn later
+ * than the stored clue it's matched to.
+ */
+public final class ClueStackMatcher
+{
+	// Despawn timers are at most an hour, so a larger offset can't come from a real stack
+	private static final int MAX_OFFSET = 1 << 16;
+	// Rounds of offsets to try, for when part of a stack was re-dropped after the rest
+	private static final int MAX_ROUNDS = 3;
+	// An offset needs at least one diff between two clues backing it up
+	private static final int MIN_VOTES = 2;
+
+	private ClueStackMatcher()
+	{
+	}
+
+	/**
+	 * Sets the tile item of each stored clue which could be matched to one of the ground items.
+	 *
+	 * @param sortedStoredClues stored clues for one item ID, sorted by stored despawn tick ascending
+	 * @param sortedGroundClues ground items of the same item ID, sorted by despawn time ascending
+	 */
+	public static void matchStack(List<ClueInstance> sortedStoredClues, List<TileItem> sortedGroundClues)
+	{
+		int storedCount = sortedStoredClues.size();
+		int groundCount = sortedGroundClues.size();
+
+		int[] storedTicks = new int[storedCount];
+		int[] storedLimits = new int[storedCount];
+		for (int i = 0; i < storedCount; i++)
+		{
+			ClueInstance clue = sortedStoredClues.get(i);
+			storedTicks[i] = clue.getTimeToDespawnFromDataInTicks();
+			storedLimits[i] = clue.getDespawnTick();
+		}
+
+		int[] groundTicks = new int[groundCount];
+		for (int j = 0; j < groundCount; j++)
+		{
+			groundTicks[j] = sortedGroundClues.get(j).getDespawnTime();
+		}
+
+		int[] matches = align(storedTicks, storedLimits, groundTicks);
+		for (int i = 0; i < storedCount; i++)
+		{
+			if (matches[i] != -1)
+			{
+				sortedStoredClues.get(i).setTileItem(sortedGroundClues.get(matches[i]));
+			}
+		}
+	}
+
+	/**
+	 * @param storedTicks stored despawn ticks, ascending
+	 * @param storedLimits latest tick each stored clue could despawn on
+	 * @param groundTicks ground item despawn ticks, ascending
+	 * @return for each stored clue, the index of the ground item it matched, or -1
+	 */
+	public static int[] align(int[] storedTicks, int[] storedLimits, int[] groundTicks)
+	{
+		int storedCount = storedTicks.length;
+		int groundCount = groundTicks.length;
+		int[] matches = new int[storedCount];
+		Arrays.fill(matches, -1);
+
+		if (storedCount == 0 || groundCount == 0)
+		{
+			return matches;
+		}
+
+		// We assume a lone clue is the same clue. It is possible for it to be swapped with another clue though in
+		// another client/mobile, and this will be wrong
+		if (storedCount == 1 && groundCount == 1)
+		{
+			if (groundTicks[0] <= storedLimits[0])
+			{
+				matches[0] = 0;
+			}
+			return matches;
+		}
+
+		if (matchUnchangedStack(storedTicks, storedLimits, groundTicks, matches))
+		{
+			return matches;
+		}
+
+		boolean[] groundMatched = new boolean[groundCount];
+		int range = Math.min(storedTicks[storedCount - 1] - groundTicks[0] + 1, MAX_OFFSET);
+		if (range <= 0)
+		{
+			return matches;
+		}
+		// Vote counts per offset. Allocated per call so align is safe from any thread, matching is rare enough
+		int[] votes = new int[range];
+
+		for (int round = 0; round < MAX_ROUNDS; round++)
+		{
+			int offset = findBestOffset(storedTicks, storedLimits, groundTicks, matches, groundMatched, votes, range);
+			if (offset == -1) break;
+
+			// Merge both sequences at the chosen offset
+			int i = 0;
+			int j = 0;
+			while (i < storedCount && j < groundCount)
+			{
+				if (matches[i] != -1)
+				{
+					i++;
+					continue;
+				}
+				if (groundMatched[j])
+				{
+					j++;
+					continue;
+				}
+
+				int expectedGroundTick = storedTicks[i] - offset;
+				if (groundTicks[j] < expectedGroundTick)
+				{
+					j++;
+				}
+				else if (groundTicks[j] > expectedGroundTick)
+				{
+					i++;
+				}
+				else
+				{
+					if (groundTicks[j] <= storedLimits[i])
+					{
+						matches[i] = j;
+						groundMatched[j] = true;
+						j++;
+					}
+					i++;
+				}
+			}
+		}
+
+		return matches;
+	}
+
+	// The common case where nothing has been taken from or added to the stack since we last saw it: O(n)
+	private static boolean matchUnchangedStack(int[] storedTicks, int[] storedLimits, int[] groundTicks, int[] matches)
+	{
+		if (storedTicks.length != groundTicks.length) return false;
+
+		int offset = storedTicks[0] - groundTicks[0];
+		if (offset < 0) return false;
+
+		for (int i = 0; i < storedTicks.length; i++)
+		{
+			if (storedTicks[i] - groundTicks[i] != offset || groundTicks[i] > storedLimits[i])
+			{
+				return false;
+			}
+		}
+
+		for (int i = 0; i < matches.length; i++)
+		{
+			matches[i] = i;
+		}
+		return true;
+	}
+
+	// O(n*m) vote over every unmatched pair's offset. Ties prefer the smaller offset, as less time was unaccounted for
+	private static int findBestOffset(int[] storedTicks, int[] storedLimits, int[] groundTicks, int[] matches,
+		boolean[] groundMatched, int[] votes, int range)
+	{
+		Arrays.fill(votes, 0, range, 0);
+		int bestOffset = -1;
+		int bestVotes = MIN_VOTES - 1;
+
+		for (int i = 0; i < storedTicks.length; i++)
+		{
+			if (matches[i] != -1) continue;
+
+			for (int j = 0; j < groundTicks.length; j++)
+			{
+				// Ground is sorted, so every later item would despawn after this clue could have
+				if (groundTicks[j] > storedLimits[i]) break;
+				if (groundMatched[j]) continue;
+
+				int offset = storedTicks[i] - groundTicks[j];
+				if (offset < 0 || offset >= range) continue;
+
+				int count = ++votes[offset];
+				if (count > bestVotes || (count == bestVotes && offset < bestOffset))
+				{
+					bestVotes = count;
+					bestOffset = offset;
+				}
+			}
+		}
+
+		return bestOffset;
+	}
+}
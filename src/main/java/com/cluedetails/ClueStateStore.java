@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+/**
+ * Key-value store for saved clue state, kept in its own directory per RuneScape profile under the RuneLite
+ * directory. Every change is appended to a log as a length and CRC framed record, so a crash can only lose the
+ * record being written. Once the log grows large enough, all current values are written to a new checkpoint
+ * that replaces the old one by atomic rename, and the log starts over.
+ * <p>
+ * Appended records reach the disk when {@link #sync()} is called, so a power loss can lose what was written
+ * since. A client crash loses nothing, as the records are already with the OS.
+ */
+@Slf4j
+public class ClueStateStore
+{
+	private static final String CHECKPOINT_FILE = "state.ckpt";
+	private static final String LOG_FILE = "state.log";
+	private static final long CHECKPOINT_LOG_SIZE = 1 << 20;
+	// Far larger than any real value, so a corrupt length isn't mistaken for one
+	private static final int MAX_RECORD_SIZE = 1 << 26;
+	private static final int HEADER_SIZE = 8;
+
+	private static final byte PUT = 1;
+	private static final byte REMOVE = 2;
+
+	private final Path directory;
+	// Only changed while holding the store's lock, but read without it so reads never wait on the disk
+	private final Map<String, String> values = new ConcurrentHashMap<>();
+	private FileChannel logChannel;
+	private boolean isNew;
+
+	private ClueStateStore(Path directory)
+	{
+		this.directory = directory;
+	}
+
+	/**
+	 * Opens the store for a profile, recovering everything up to the last complete record
+	 */
+	public static ClueStateStore open(String profileKey) throws IOException
+	{
+		Path directory = new File(RuneLite.RUNELITE_DIR, "clue-details").toPath()
+			.resolve(profileKey.replaceAll("[^A-Za-z0-9_-]", "_"));
+		Files.createDirectories(directory);
+
+		ClueStateStore store = new ClueStateStore(directory);
+		store.isNew = !Files.exists(directory.resolve(CHECKPOINT_FILE)) && !Files.exists(directory.resolve(LOG_FILE));
+		store.recover();
+		return store;
+	}
+
+	/**
+	 * @return whether the profile had no store before this one was opened
+	 */
+	public boolean isNew()
+	{
+		return isNew;
+	}
+
+	/**
+	 * Reads a value from memory. Not synchronized, so a read on the client thread never waits behind a write,
+	 * sync or checkpoint.
+	 */
+	public String get(String key)
+	{
+		return values.get(key);
+	}
+
+	/**
+	 * Stores a value, or removes the key if it's null
+	 */
+	public synchronized void put(String key, String value) throws IOException
+	{
+		if (value == null ? !values.containsKey(key) : value.equals(values.get(key))) return;
+
+		if (value == null)
+		{
+			values.remove(key);
+		}
+		else
+		{
+			values.put(key, value);
+		}
+
+		writeRecord(logChannel, key, value);
+		if (logChannel.size() >= CHECKPOINT_LOG_SIZE)
+		{
+			checkpoint();
+		}
+	}
+
+	/**
+	 * Forces records appended to the log so far out to the disk
+	 */
+	public synchronized void sync() throws IOException
+	{
+		if (logChannel == null) return;
+		logChannel.force(false);
+	}
+
+	public synchronized void close() throws IOException
+	{
+		if (logChannel == null) return;
+		if (logChannel.size() > 0)
+		{
+			checkpoint();
+		}
+		logChannel.close();
+		logChannel = null;
+	}
+
+	private void recover() throws IOException
+	{
+		Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+		if (Files.exists(checkpoint))
+		{
+			// Only ever replaced whole, so a bad record means the file itself is damaged
+			if (readRecords(checkpoint) != Files.size(checkpoint))
+			{
+				log.warn("Clue state checkpoint in {} is damaged, recovering what it can", directory);
+			}
+		}
+
+		Path logPath = directory.resolve(LOG_FILE);
+		long validLength = Files.exists(logPath) ? readRecords(logPath) : 0;
+		logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		// Drop a record torn by a crash, so new records follow the last complete one
+		logChannel.truncate(validLength);
+		logChannel.position(validLength);
+	}
+
+	/**
+	 * Applies records from a file until the end or the first incomplete or corrupt one
+	 *
+	 * @return the length of the file's valid records
+	 */
+	private long readRecords(Path path) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		CRC32 crc = new CRC32();
+		while (buffer.remaining() >= HEADER_SIZE)
+		{
+			int start = buffer.position();
+			int length = buffer.getInt();
+			int checksum = buffer.getInt();
+			if (length < 0 || length > MAX_RECORD_SIZE || length > buffer.remaining())
+			{
+				return start;
+			}
+
+			ByteBuffer payload = buffer.slice();
+			payload.limit(length);
+			crc.reset();
+			crc.update(payload.duplicate());
+			if ((int) crc.getValue() != checksum)
+			{
+				return start;
+			}
+
+			applyRecord(payload);
+			buffer.position(start + HEADER_SIZE + length);
+		}
+		return buffer.position();
+	}
+
+	private void applyRecord(ByteBuffer payload)
+	{
+		byte op = payload.get();
+		String key = readString(payload);
+		if (op == PUT)
+		{
+			values.put(key, readString(payload));
+		}
+		else
+		{
+			values.remove(key);
+		}
+	}
+
+	private static String readString(ByteBuffer buffer)
+	{
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void checkpoint() throws IOException
+	{
+		Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			for (Map.Entry<String, String> entry : values.entrySet())
+			{
+				writeRecord(channel, entry.getKey(), entry.getValue());
+			}
+			channel.force(true);
+		}
+		Files.move(temp, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		// Everything in the log is in the checkpoint now
+		logChannel.truncate(0);
+		logChannel.position(0);
+	}
+
+	private static void writeRecord(FileChannel channel, String key, String value) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream payload = new DataOutputStream(bytes);
+		payload.writeByte(value == null ? REMOVE : PUT);
+		writeString(payload, key);
+		if (value != null)
+		{
+			writeString(payload, value);
+		}
+		payload.flush();
+
+		byte[] record = bytes.toByteArray();
+		CRC32 crc = new CRC32();
+		crc.update(record);
+
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + record.length);
+		buffer.putInt(record.length);
+		buffer.putInt((int) crc.getValue());
+		buffer.put(record);
+		buffer.flip();
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException
+	{
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * Opens, reads and writes the current profile's {@link ClueStateStore} on a single background thread, so the
+ * client thread never waits on the disk. Writes are bound to the profile current when they were made, and
+ * writes queued for the same key before the worker gets to them collapse into the latest one.
+ */
+@Slf4j
+@Singleton
+public class ClueStateWriter
+{
+	private static final long FLUSH_TIMEOUT_SECONDS = 5;
+	// Used before a profile is known, such as when the plugin starts on the login screen
+	private static final String NO_PROFILE = "default";
+
+	private static final String CONFIG_GROUP = "clue-details";
+	// Saved state that used to be kept in the config, and is moved into a profile's store when it's first created.
+	// The config keys weren't per account, so they go to the first account to log in after updating, which is
+	// most likely the one that saved them. Later accounts start empty rather than with copies of its clues.
+	private static final String[] CONFIG_KEY_PREFIXES = { "ground-clue", "bank-clues" };
+
+	private final ConfigManager configManager;
+	private final ClientThread clientThread;
+
+	// The profile new writes and reads are for
+	private Profile profile = new Profile();
+	// Writes the worker hasn't picked up yet
+	private Batch queued;
+
+	private ExecutorService executor;
+
+	@Inject
+	public ClueStateWriter(ConfigManager configManager, ClientThread clientThread)
+	{
+		this.configManager = configManager;
+		this.clientThread = clientThread;
+	}
+
+	public synchronized void startUp()
+	{
+		if (executor != null) return;
+		executor = Executors.newSingleThreadExecutor(runnable ->
+		{
+			Thread thread = new Thread(runnable, "clue-details-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Closes the store once everything queued has been written, waiting a bounded time for it
+	 */
+	public void shutDown()
+	{
+		Profile closing;
+		synchronized (this)
+		{
+			closing = profile;
+			profile = new Profile();
+		}
+		run(() -> closeStore(closing));
+		flush();
+
+		ExecutorService stopping;
+		synchronized (this)
+		{
+			stopping = executor;
+			executor = null;
+		}
+		if (stopping != null)
+		{
+			stopping.shutdown();
+		}
+	}
+
+	/**
+	 * Switches to the given profile's store. Writes made before this still go to the previous profile's store,
+	 * which is closed once they're done.
+	 */
+	public void openProfile(String profileKey)
+	{
+		Profile previous;
+		Profile next = new Profile();
+		synchronized (this)
+		{
+			previous = profile;
+			profile = next;
+		}
+
+		run(() ->
+		{
+			closeStore(previous);
+			try
+			{
+				next.store = ClueStateStore.open(profileKey == null ? NO_PROFILE : profileKey);
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to open clue state store", e);
+				return;
+			}
+
+			if (next.store.isNew() && profileKey != null)
+			{
+				moveConfigToStore(next.store);
+			}
+		});
+	}
+
+	private void moveConfigToStore(ClueStateStore store)
+	{
+		for (String configKey : configManager.getConfigurationKeys(CONFIG_GROUP + "."))
+		{
+			String key = configKey.substring(CONFIG_GROUP.length() + 1);
+			if (!isMovedToStore(key)) continue;
+
+			try
+			{
+				store.put(key, configManager.getConfiguration(CONFIG_GROUP, key));
+			}
+			catch (IOException e)
+			{
+				log.warn("Failed to move {} into the clue state store", key, e);
+				continue;
+			}
+			configManager.unsetConfiguration(CONFIG_GROUP, key);
+		}
+	}
+
+	private static boolean isMovedToStore(String key)
+	{
+		for (String prefix : CONFIG_KEY_PREFIXES)
+		{
+			if (key.startsWith(prefix)) return true;
+		}
+		return false;
+	}
+
+	private static void closeStore(Profile closing)
+	{
+		ClueStateStore store = closing.store;
+		if (store == null) return;
+		closing.store = null;
+		try
+		{
+			store.close();
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to close clue state store", e);
+		}
+	}
+
+	/**
+	 * Reads saved values on the worker, after everything already queued, and hands them to {@code callback} on
+	 * the client thread. Values that aren't saved are left out. The callback is dropped if the profile changes
+	 * before it runs, as the reads for the new profile will follow.
+	 */
+	public void read(Collection<String> keys, Consumer<Map<String, String>> callback)
+	{
+		Profile target;
+		synchronized (this)
+		{
+			target = profile;
+		}
+
+		run(() ->
+		{
+			Map<String, String> values = new HashMap<>();
+			ClueStateStore store = target.store;
+			if (store != null)
+			{
+				for (String key : keys)
+				{
+					String value = store.get(key);
+					if (value != null)
+					{
+						values.put(key, value);
+					}
+				}
+			}
+
+			clientThread.invoke(() ->
+			{
+				synchronized (this)
+				{
+					if (profile != target) return;
+				}
+				callback.accept(values);
+			});
+		});
+	}
+
+	/**
+	 * Reads a saved value straight from the current store, which keeps its values in memory so this neither
+	 * touches the disk nor waits on a write. Only for values read after the profile's
+	 * {@link #read(Collection, Consumer)} has come back, and not written since.
+	 */
+	public String read(String key)
+	{
+		ClueStateStore store;
+		synchronized (this)
+		{
+			store = profile.store;
+		}
+		return store == null ? null : store.get(key);
+	}
+
+	/**
+	 * Queues {@code encoder} to be run off the client thread and its result stored, or the key removed if it
+	 * returns null. The encoder must only read the snapshot it was built from.
+	 */
+	public void write(String key, Supplier<String> encoder)
+	{
+		Profile target;
+		synchronized (this)
+		{
+			if (executor != null)
+			{
+				// A new batch after a profile switch, so these writes can't land in the other profile's store
+				if (queued == null || queued.profile != profile)
+				{
+					Batch batch = new Batch(profile);
+					queued = batch;
+					executor.execute(() -> drain(batch));
+				}
+				queued.writes.put(key, encoder);
+				return;
+			}
+			target = profile;
+		}
+
+		// Not running, so there's nothing to hand off to
+		writeNow(target, key, encoder);
+	}
+
+	private void drain(Batch batch)
+	{
+		List<Map.Entry<String, Supplier<String>>> writes;
+		synchronized (this)
+		{
+			// Nothing more is added to the batch once it's no longer the queued one
+			if (queued == batch)
+			{
+				queued = null;
+			}
+			writes = new ArrayList<>(batch.writes.entrySet());
+		}
+
+		for (Map.Entry<String, Supplier<String>> write : writes)
+		{
+			writeNow(batch.profile, write.getKey(), write.getValue());
+		}
+		// Once per batch, which the periodic save keeps to about every 30 seconds at most
+		sync(batch.profile);
+	}
+
+	private static void writeNow(Profile target, String key, Supplier<String> encoder)
+	{
+		ClueStateStore store = target.store;
+		if (store == null) return;
+
+		try
+		{
+			store.put(key, encoder.get());
+		}
+		catch (IOException | RuntimeException e)
+		{
+			log.warn("Failed to save clue state {}", key, e);
+		}
+	}
+
+	private static void sync(Profile target)
+	{
+		ClueStateStore store = target.store;
+		if (store == null) return;
+
+		try
+		{
+			store.sync();
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to sync clue state", e);
+		}
+	}
+
+	/**
+	 * Runs a task on the worker after everything already queued, or straight away if it isn't running
+	 */
+	private void run(Runnable task)
+	{
+		synchronized (this)
+		{
+			if (executor != null)
+			{
+				executor.execute(task);
+				return;
+			}
+		}
+		task.run();
+	}
+
+	/**
+	 * @return a future that completes once everything queued so far has been written
+	 */
+	public synchronized Future<?> flushAsync()
+	{
+		if (executor == null)
+		{
+			return CompletableFuture.completedFuture(null);
+		}
+		return executor.submit(() -> { });
+	}
+
+	/**
+	 * Waits a bounded time for everything queued so far. This blocks, so is only for shutting down.
+	 */
+	private void flush()
+	{
+		try
+		{
+			flushAsync().get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException | TimeoutException e)
+		{
+			log.warn("Gave up waiting for clue state to save", e);
+		}
+	}
+
+	private static class Profile
+	{
+		// Set on the worker once the store has opened, and cleared when it's closed
+		private volatile ClueStateStore store;
+	}
+
+	private static class Batch
+	{
+		private final Profile profile;
+		private final Map<String, Supplier<String>> writes = new LinkedHashMap<>();
+
+		private Batch(Profile profile)
+		{
+			this.profile = profile;
+		}
+	}
+}
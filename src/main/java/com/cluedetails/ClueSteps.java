@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, interned set of clue step IDs. A clue normally has one step, three-step masters have three.
+ * Every instance holding the same steps shares one object, so equality is usually an identity check and the
+ * hash is computed once.
+ */
+public final class ClueSteps
+{
+	public static final ClueSteps NONE = new ClueSteps(new int[0]);
+
+	// Singles are looked up by ID so the common case doesn't allocate a probe
+	private static final IntObjectMap<ClueSteps> singles = new IntObjectMap<>();
+	private static final Map<ClueSteps, ClueSteps> interned = new HashMap<>();
+
+	private final int[] ids;
+	private final int hash;
+	private final List<Integer> list;
+
+	private ClueSteps(int[] ids)
+	{
+		this.ids = ids;
+		this.hash = Arrays.hashCode(ids);
+		this.list = new IdList();
+	}
+
+	public static ClueSteps of(int id)
+	{
+		synchronized (singles)
+		{
+			ClueSteps steps = singles.get(id);
+			if (steps == null)
+			{
+				steps = new ClueSteps(new int[]{id});
+				singles.put(id, steps);
+			}
+			return steps;
+		}
+	}
+
+	public static ClueSteps of(int... ids)
+	{
+		if (ids == null || ids.length == 0) return NONE;
+		if (ids.length == 1) return of(ids[0]);
+
+		ClueSteps probe = new ClueSteps(ids.clone());
+		synchronized (interned)
+		{
+			return interned.computeIfAbsent(probe, p -> p);
+		}
+	}
+
+	public static ClueSteps of(List<Integer> ids)
+	{
+		if (ids == null || ids.isEmpty()) return NONE;
+		if (ids instanceof IdList) return ((IdList) ids).steps();
+
+		int[] unboxed = new int[ids.size()];
+		for (int i = 0; i < unboxed.length; i++)
+		{
+			unboxed[i] = ids.get(i);
+		}
+		return of(unboxed);
+	}
+
+	public int size()
+	{
+		return ids.length;
+	}
+
+	public boolean isEmpty()
+	{
+		return ids.length == 0;
+	}
+
+	public int get(int index)
+	{
+		return ids[index];
+	}
+
+	public boolean contains(int id)
+	{
+		for (int stepId : ids)
+		{
+			if (stepId == id) return true;
+		}
+		return false;
+	}
+
+	public int[] toArray()
+	{
+		return ids.clone();
+	}
+
+	/**
+	 * @return a read-only list view of the steps, for code that still works with boxed IDs
+	 */
+	public List<Integer> asList()
+	{
+		return list;
+	}
+
+	@Override
+	public boolean equals(Object o)
+	{
+		if (this == o) return true;
+		if (!(o instanceof ClueSteps)) return false;
+		ClueSteps other = (ClueSteps) o;
+		return hash == other.hash && Arrays.equals(ids, other.ids);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	public String toString()
+	{
+		return Arrays.toString(ids);
+	}
+
+	private class IdList extends AbstractList<Integer> implements RandomAccess
+	{
+		@Override
+		public Integer get(int index)
+		{
+			return ids[index];
+		}
+
+		@Override
+		public int size()
+		{
+			return ids.length;
+		}
+
+		ClueSteps steps()
+		{
+			return ClueSteps.this;
+		}
+	}
+}
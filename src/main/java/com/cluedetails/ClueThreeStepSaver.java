@@ -55,13 +55,13 @@ public class ClueThreeStepSaver
 		}
 
 		//removes entries if we don't know what clue is in their inv, can be made a toggle.
-		removeEntries = cluesMatch() || activeMaster.getClueIds().isEmpty();
+		removeEntries = cluesMatch() || activeMaster.getClueSteps().isEmpty();
 	}
 
 	public boolean cluesMatch()
 	{
 		if (activeMaster == null || savedThreeStepper == null) return false;
-		else return activeMaster.getClueIds().equals(savedThreeStepper.getClueIds());
+		else return activeMaster.getClueSteps().equals(savedThreeStepper.getClueSteps());
 	}
 
 	public void onMenuOpened(MenuOpened event)
@@ -76,7 +76,7 @@ public class ClueThreeStepSaver
 
 		MenuEntry firstEntry = event.getFirstEntry();
 		//only menus generated from a clue in inventory pass this widget check.
-		if (activeMaster.getClueIds().size() == 3 && firstEntry.getWidget() != null && firstEntry.getTarget().contains("Clue scroll (master)"))
+		if (activeMaster.getClueSteps().size() == 3 && firstEntry.getWidget() != null && firstEntry.getTarget().contains("Clue scroll (master)"))
 		{
 			MenuEntry[] menuEntries = client.getMenu().getMenuEntries();
 			if (cluesMatch())
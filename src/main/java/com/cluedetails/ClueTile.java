@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Zoinkwiz <https://github.com/Zoinkwiz>
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -24,21 +24,39 @@
  */
 package com.cluedetails;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
 
-public class Zone
+/**
+ * All tracked clues on a single tile, split into the beginner/master and easy-to-elite slots
+ * along with the merged view sorted for display.
+ */
+@Getter
+public class ClueTile
 {
-	private final int x;
-	private final int y;
+	private final int packedPoint;
+	private final WorldPoint location;
+	private final List<ClueInstance> beginnerAndMaster = new ArrayList<>();
+	private final List<ClueInstance> easyToElite = new ArrayList<>();
+	private final SortedSet<ClueInstance> allClues;
+	// Read-only view of beginnerAndMaster, made once so lookups don't create one each time
+	private final List<ClueInstance> beginnerAndMasterView = Collections.unmodifiableList(beginnerAndMaster);
 
-	public Zone(WorldPoint wp)
+	public ClueTile(int packedPoint, WorldPoint location, Comparator<ClueInstance> clueComparator)
 	{
-		x = wp.getX() / 8;
-		y = wp.getY() / 8;
+		this.packedPoint = packedPoint;
+		this.location = location;
+		this.allClues = new TreeSet<>(clueComparator);
 	}
 
-	public int maxDistanceTo(Zone zone)
+	public boolean isEmpty()
 	{
-		return Math.max(Math.abs(zone.x - x), Math.abs(zone.y - y));
+		return beginnerAndMaster.isEmpty() && easyToElite.isEmpty();
 	}
 }
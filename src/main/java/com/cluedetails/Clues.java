@@ -36,8 +36,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import lombok.Getter;
@@ -1195,6 +1195,13 @@ public class Clues
 	@Inject
 	public static ClueDetailsConfig config;
 
+	// Set while the plugin is running, so detail lookups are served from its cache
+	@Setter
+	private static ClueDetailResolver detailResolver;
+
+	// Position in CLUES, for per-clue arrays
+	int catalogIndex;
+
 	Clues(String clueDetail, int itemID, ClueTier clueTier, String clueText, List<WorldPoint> wps)
 	{
 		this.clueID = -1;
@@ -1243,73 +1250,168 @@ public class Clues
 		ItemID.DAEYALT_ESSENCE
 	);
 
-	private static Map<Integer, List<Clues>> itemIdClueCache = new HashMap<>();
-	private static Map<Integer, List<Clues>> otherIdClueCache = new HashMap<>();
-	private static Map<Integer, Clues> clueIdClueCache = new HashMap<>();
-	private static Map<Integer, Clues> unfilteredClueCache = new HashMap<>();
+	private static final int FIRST_REAL_ITEM_ID = 2677; // Below this are InterfaceIDs and HotColdLocations
+	private static final int ALL_TIERS = (1 << ClueTier.values().length) - 1;
+
+	// Built once from the catalog and never rebuilt, as tier toggles only change enabledTierMask and enabledClueItems
+	private static final Clues[] cluesByClueId = buildClueIdIndex();
+	// Clues without a clue ID, keyed by their item ID instead
+	private static final IntObjectMap<Clues> cluesByItemKey = new IntObjectMap<>();
+	private static final IntObjectMap<List<Clues>> cluesByOtherId = new IntObjectMap<>();
+	// Bitsets indexed by item ID, so the item checks run on every spawn, menu entry and inventory slot are one word read
+	private static final long[] trackedClueItems = itemBitset(TRACKED_CLUE_IDS);
+	private static final long[] trackedOrTornClueItems = itemBitset(TRACKED_CLUE_IDS, TRACKED_TORN_CLUE_IDS);
+	private static final long[] devModeItems = itemBitset(DEV_MODE_IDS);
+	// Item IDs of clues in enabled tiers, recomputed when the tiers change
+	private static long[] enabledClueItems;
+	// Normalized clue text to every clue with that text in catalog order, so text lookups are one hash lookup
+	private static final Map<String, Clues[]> textIndex = buildTextIndex(CLUES);
 
-	public static void rebuildFilteredCluesCache()
+	private static int enabledTierMask = ALL_TIERS;
+	// Bumped whenever the enabled tiers are recomputed, so values derived from them know when to recompute
+	@Getter
+	private static int cacheEpoch;
+
+	static
 	{
-		List<ClueTier> enabledClueTiers = getEnabledClueTiers();
+		for (int i = 0; i < CLUES.size(); i++)
+		{
+			Clues clue = CLUES.get(i);
+			clue.catalogIndex = i;
 
-		List<Clues> enabledClues = Clues.CLUES.stream()
-				.filter(c -> enabledClueTiers.contains(c.getClueTier()))
-				.collect(Collectors.toList());
+			if (clue.clueID == -1)
+			{
+				if (!cluesByItemKey.containsKey(clue.itemID))
+				{
+					cluesByItemKey.put(clue.itemID, clue);
+				}
+			}
 
-		itemIdClueCache = enabledClues
-				.stream()
-				.filter(clue -> clue.getItemID() >= 2677) // Ignore InterfaceID and HotColdLocation
-				.collect(Collectors.groupingBy(Clues::getItemID));
+			if (clue.itemID < FIRST_REAL_ITEM_ID)
+			{
+				List<Clues> otherIdClues = cluesByOtherId.get(clue.itemID);
+				if (otherIdClues == null)
+				{
+					otherIdClues = new ArrayList<>(1);
+					cluesByOtherId.put(clue.itemID, otherIdClues);
+				}
+				otherIdClues.add(clue);
+			}
+		}
+		enabledClueItems = buildEnabledClueItems();
+	}
 
-		otherIdClueCache = enabledClues
-			.stream()
-				.filter(clue -> clue.getItemID() < 2677) // Only InterfaceID and HotColdLocation
-			.collect(Collectors.groupingBy(Clues::getItemID));
+	public static void refreshEnabledTiers()
+	{
+		enabledTierMask = getEnabledTierMask();
+		enabledClueItems = buildEnabledClueItems();
+		cacheEpoch++;
+	}
+
+	private static long[] buildEnabledClueItems()
+	{
+		long[] bits = new long[0];
+		for (Clues clue : CLUES)
+		{
+			if (clue.itemID >= FIRST_REAL_ITEM_ID && isTierEnabled(clue))
+			{
+				bits = setBit(bits, clue.itemID);
+			}
+		}
+		return bits;
+	}
 
-		clueIdClueCache = enabledClues
-				.stream()
-				.collect(Collectors.toMap(Clues::getClueID, clue -> clue));
+	@SafeVarargs
+	private static long[] itemBitset(Collection<Integer>... itemIdSets)
+	{
+		long[] bits = new long[0];
+		for (Collection<Integer> itemIds : itemIdSets)
+		{
+			for (int itemId : itemIds)
+			{
+				bits = setBit(bits, itemId);
+			}
+		}
+		return bits;
+	}
+
+	private static long[] setBit(long[] bits, int itemId)
+	{
+		int word = itemId >>> 6;
+		if (word >= bits.length)
+		{
+			bits = Arrays.copyOf(bits, word + 1);
+		}
+		bits[word] |= 1L << itemId;
+		return bits;
+	}
+
+	private static boolean hasBit(long[] bits, int itemId)
+	{
+		int word = itemId >>> 6;
+		return word < bits.length && (bits[word] & (1L << itemId)) != 0;
+	}
+
+	private static Clues[] buildClueIdIndex()
+	{
+		int maxClueId = -1;
+		for (Clues clue : CLUES)
+		{
+			maxClueId = Math.max(maxClueId, clue.clueID);
+		}
+
+		Clues[] index = new Clues[maxClueId + 1];
+		for (Clues clue : CLUES)
+		{
+			if (clue.clueID >= 0)
+			{
+				index[clue.clueID] = clue;
+			}
+		}
+		return index;
+	}
+
+	private static int tierBit(ClueTier tier)
+	{
+		return 1 << tier.ordinal();
+	}
 
-		unfilteredClueCache = Clues.CLUES
-				.stream()
-				.collect(Collectors.toMap(Clues::getClueID, clue -> clue));
+	private static boolean isTierEnabled(Clues clue)
+	{
+		return (enabledTierMask & tierBit(clue.clueTier)) != 0;
 	}
 
-	private static List<ClueTier> getEnabledClueTiers()
+	private static int getEnabledTierMask()
 	{
 		if (config == null)
 		{
-			return Arrays.asList(ClueTier.values());
+			return ALL_TIERS;
 		}
 
-		List<ClueTier> enabledClues = new ArrayList<>();
-		if (config.beginnerDetails()) enabledClues.add(ClueTier.BEGINNER);
-		if (config.easyDetails()) enabledClues.add(ClueTier.EASY);
+		int enabledTiers = 0;
+		if (config.beginnerDetails()) enabledTiers |= tierBit(ClueTier.BEGINNER);
+		if (config.easyDetails()) enabledTiers |= tierBit(ClueTier.EASY);
 		if (config.mediumDetails())
 		{
-			enabledClues.add(ClueTier.MEDIUM);
-			enabledClues.add(ClueTier.MEDIUM_CHALLENGE);
-			enabledClues.add(ClueTier.MEDIUM_KEY);
+			enabledTiers |= tierBit(ClueTier.MEDIUM) | tierBit(ClueTier.MEDIUM_CHALLENGE) | tierBit(ClueTier.MEDIUM_KEY);
 		}
 		if (config.hardDetails())
 		{
-			enabledClues.add(ClueTier.HARD);
-			enabledClues.add(ClueTier.HARD_CHALLENGE);
+			enabledTiers |= tierBit(ClueTier.HARD) | tierBit(ClueTier.HARD_CHALLENGE);
 		}
 		if (config.eliteDetails())
 		{
-			enabledClues.add(ClueTier.ELITE);
-			enabledClues.add(ClueTier.ELITE_CHALLENGE);
+			enabledTiers |= tierBit(ClueTier.ELITE) | tierBit(ClueTier.ELITE_CHALLENGE);
 		}
-		if (config.masterDetails()) enabledClues.add(ClueTier.MASTER);
+		if (config.masterDetails()) enabledTiers |= tierBit(ClueTier.MASTER);
 
-		return enabledClues;
+		return enabledTiers;
 	}
 
 	public static Clues forItemId(int itemId)
 	{
-		Clues clue = clueIdClueCache.get(itemId);
-		if (clue != null && clue.clueID == -1)
+		Clues clue = cluesByItemKey.get(itemId);
+		if (clue != null && isTierEnabled(clue))
 		{
 			return clue;
 		}
@@ -1318,12 +1420,22 @@ public class Clues
 
 	public static Clues forClueId(int clueId)
 	{
-		return unfilteredClueCache.get(clueId);
+		if (clueId >= 0 && clueId < cluesByClueId.length && cluesByClueId[clueId] != null)
+		{
+			return cluesByClueId[clueId];
+		}
+		// Clues without a clue ID go by their item ID
+		return cluesByItemKey.get(clueId);
 	}
 
 	public static Clues forClueIdFiltered(int clueId)
 	{
-		return clueIdClueCache.get(clueId);
+		Clues clue = forClueId(clueId);
+		if (clue != null && isTierEnabled(clue))
+		{
+			return clue;
+		}
+		return null;
 	}
 
 	public Integer getClueID()
@@ -1337,40 +1449,125 @@ public class Clues
 
 	public static Integer forTextGetId(String rawText)
 	{
-		final String text = Text.sanitizeMultilineText(rawText).toLowerCase();
+		Clues[] clues = textIndex.get(normalizeText(Text.sanitizeMultilineText(rawText)));
+		if (clues == null) return null;
 
-		for (Clues clue : clueIdClueCache.values())
+		// A clue in a disabled tier mustn't hide an enabled one with the same text
+		for (Clues clue : clues)
 		{
-			if (text.equalsIgnoreCase(clue.getClueText()))
+			if (isTierEnabled(clue))
 			{
 				return clue.getClueID();
 			}
 		}
-
 		return null;
 	}
 
+	/**
+	 * Looks up a clue by its already sanitized text, regardless of which tiers are enabled.
+	 */
+	public static Clues forSanitizedText(String text)
+	{
+		Clues[] clues = textIndex.get(normalizeText(text));
+		return clues == null ? null : clues[0];
+	}
+
+	private static Map<String, Clues[]> buildTextIndex(List<Clues> clues)
+	{
+		Map<String, Clues[]> index = new HashMap<>();
+		for (Clues clue : clues)
+		{
+			if (clue.getClueText() == null) continue;
+			// Where clues share a text, the first in catalog order comes first
+			index.merge(normalizeText(clue.getClueText()), new Clues[]{ clue }, (existing, added) ->
+			{
+				Clues[] merged = Arrays.copyOf(existing, existing.length + 1);
+				merged[existing.length] = added[0];
+				return merged;
+			});
+		}
+		return index;
+	}
+
+	private static String normalizeText(String text)
+	{
+		return text.toLowerCase(Locale.ROOT);
+	}
+
 	public static Integer forOtherIdGetId(int otherId)
 	{
-		List<Clues> clues = otherIdClueCache.get(otherId);
-		if (!clues.isEmpty())
+		List<Clues> clues = cluesByOtherId.get(otherId);
+		if (clues == null) return null;
+
+		for (Clues clue : clues)
 		{
-			return clues.get(0).clueID;
+			if (isTierEnabled(clue))
+			{
+				return clue.clueID;
+			}
 		}
 		return null;
 	}
 
 	public String getDetail(ConfigManager configManager)
 	{
-		String text = configManager.getConfiguration("clue-details-text", String.valueOf(getClueID()));
+		ClueDetailResolver resolver = detailResolver;
+		if (resolver != null) return resolver.getDetail(this);
+		return readDetail(configManager);
+	}
+
+	public Color getDetailColor(ConfigManager configManager)
+	{
+		ClueDetailResolver resolver = detailResolver;
+		if (resolver != null) return resolver.getDetailColor(this);
+		return readDetailColor(configManager);
+	}
+
+	public String getColoredDetail(ConfigManager configManager)
+	{
+		ClueDetailResolver resolver = detailResolver;
+		if (resolver != null) return resolver.getColoredDetail(this);
+		return ClueDetailResolver.colorTag(readDetailColor(configManager)) + readDetail(configManager);
+	}
+
+	/**
+	 * @return the detail text, coloured only when its colour isn't the default
+	 */
+	public String getFloorDetail(ConfigManager configManager)
+	{
+		ClueDetailResolver resolver = detailResolver;
+		if (resolver != null) return resolver.getFloorDetail(this);
+		Color color = readDetailColor(configManager);
+		String detail = readDetail(configManager);
+		return color == Color.WHITE ? detail : ClueDetailResolver.colorTag(color) + detail;
+	}
+
+	static ClueDetailResolver getDetailResolver()
+	{
+		return detailResolver;
+	}
+
+	String readDetail(ConfigManager configManager)
+	{
+		String text = configManager.getConfiguration(ClueDetailResolver.TEXT_CONFIG_GROUP, String.valueOf(getClueID()));
 		if (text != null) return text;
 		return getClueDetail();
 	}
 
-	public Color getDetailColor(ConfigManager configManager)
+	Color readDetailColor(ConfigManager configManager)
 	{
-		String colorCode = configManager.getConfiguration("clue-details-color", String.valueOf(getClueID()));
-		if (colorCode != null) return Color.decode(colorCode);
+		String colorCode = configManager.getConfiguration(ClueDetailResolver.COLOR_CONFIG_GROUP, String.valueOf(getClueID()));
+		if (colorCode != null)
+		{
+			try
+			{
+				return Color.decode(colorCode);
+			}
+			catch (NumberFormatException e)
+			{
+				return getClueDetailColor();
+			}
+		}
 		return getClueDetailColor();
 	}
 
@@ -1388,17 +1585,22 @@ public class Clues
 
 	public static boolean isClue(int itemId, boolean isDeveloperMode)
 	{
-		return itemIdClueCache.containsKey(itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return hasBit(enabledClueItems, itemId) || (isDeveloperMode && hasBit(devModeItems, itemId));
 	}
 
 	public static boolean isBeginnerOrMasterClue(int itemId, boolean isDeveloperMode)
 	{
-		return TRACKED_CLUE_IDS.contains(itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return hasBit(trackedClueItems, itemId) || (isDeveloperMode && hasBit(devModeItems, itemId));
 	}
 
 	public static boolean isTrackedClueOrTornClue(int itemId, boolean isDeveloperMode)
 	{
-		return TRACKED_CLUE_IDS.contains(itemId) || TRACKED_TORN_CLUE_IDS.contains(itemId) || (isDeveloperMode && DEV_MODE_IDS.contains(itemId));
+		return hasBit(trackedOrTornClueItems, itemId) || (isDeveloperMode && hasBit(devModeItems, itemId));
+	}
+
+	public static boolean isDevModeItem(int itemId)
+	{
+		return hasBit(devModeItems, itemId);
 	}
 
 	public static Collection<Integer> getTrackedClueAndTornClueIds(boolean isDevMode)
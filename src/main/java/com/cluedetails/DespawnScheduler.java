@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap of tracked clues keyed on the despawn tick they were scheduled with.
+ * Entries are never removed early; instead they are dropped when polled if the clue has since been
+ * untracked or rescheduled, so rescheduling is just another push.
+ */
+public class DespawnScheduler
+{
+	private int[] ticks = new int[64];
+	private ClueInstance[] clues = new ClueInstance[64];
+	private int size;
+
+	public void schedule(ClueInstance clue, int despawnTick)
+	{
+		if (size == ticks.length)
+		{
+			ticks = Arrays.copyOf(ticks, size << 1);
+			clues = Arrays.copyOf(clues, size << 1);
+		}
+
+		int i = size++;
+		// Sift up
+		while (i > 0)
+		{
+			int parent = (i - 1) >>> 1;
+			if (ticks[parent] <= despawnTick) break;
+			ticks[i] = ticks[parent];
+			clues[i] = clues[parent];
+			i = parent;
+		}
+		ticks[i] = despawnTick;
+		clues[i] = clue;
+	}
+
+	public boolean hasDueBy(int tick)
+	{
+		return size > 0 && ticks[0] <= tick;
+	}
+
+	public int peekTick()
+	{
+		return ticks[0];
+	}
+
+	public ClueInstance poll()
+	{
+		ClueInstance top = clues[0];
+		int lastTick = ticks[--size];
+		ClueInstance lastClue = clues[size];
+		clues[size] = null;
+
+		if (size > 0)
+		{
+			// Sift the last entry down from the root
+			int i = 0;
+			int half = size >>> 1;
+			while (i < half)
+			{
+				int child = (i << 1) + 1;
+				int right = child + 1;
+				if (right < size && ticks[right] < ticks[child])
+				{
+					child = right;
+				}
+				if (lastTick <= ticks[child]) break;
+				ticks[i] = ticks[child];
+				clues[i] = clues[child];
+				i = child;
+			}
+			ticks[i] = lastTick;
+			clues[i] = lastClue;
+		}
+		return top;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public void clear()
+	{
+		Arrays.fill(clues, 0, size, null);
+		size = 0;
+	}
+}
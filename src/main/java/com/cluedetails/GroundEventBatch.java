@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+
+/**
+ * Ground clue spawns buffered over a tick so each touched tile is reconciled once on GameTick.
+ * The same instance is reused every tick, keeping its capacity.
+ */
+public class GroundEventBatch
+{
+	// Tiles with beginner/master clues spawned that need matching against stored clues
+	@Getter
+	private final Set<Tile> relativeTimerTiles = new LinkedHashSet<>();
+	// Tiles with easy-elite clues spawned, which we just rebuild
+	@Getter
+	private final Set<Tile> easyToEliteTiles = new LinkedHashSet<>();
+
+	// Items spawned this tick, so a despawn of the same item within the tick can cancel out
+	private final Map<TileItem, Tile> relativeTimerItems = new IdentityHashMap<>();
+	private final Map<TileItem, Tile> easyToEliteItems = new IdentityHashMap<>();
+	// Items still pending per tile, so cancelling a spawn knows whether its tile is still needed without a scan
+	private final Map<Tile, Integer> relativeTimerItemCounts = new HashMap<>();
+	private final Map<Tile, Integer> easyToEliteItemCounts = new HashMap<>();
+
+	public void addRelativeTimerSpawn(Tile tile, TileItem item)
+	{
+		relativeTimerTiles.add(tile);
+		if (relativeTimerItems.put(item, tile) == null)
+		{
+			relativeTimerItemCounts.merge(tile, 1, Integer::sum);
+		}
+	}
+
+	public void addEasyToEliteSpawn(Tile tile, TileItem item)
+	{
+		easyToEliteTiles.add(tile);
+		if (easyToEliteItems.put(item, tile) == null)
+		{
+			easyToEliteItemCounts.merge(tile, 1, Integer::sum);
+		}
+	}
+
+	/**
+	 * Drops a pending spawn of the item, along with its tile if nothing else spawned there this tick.
+	 *
+	 * @return true if the item was spawned earlier this tick
+	 */
+	public boolean cancelSpawn(TileItem item)
+	{
+		Tile tile = relativeTimerItems.remove(item);
+		if (tile != null)
+		{
+			if (decrement(relativeTimerItemCounts, tile))
+			{
+				relativeTimerTiles.remove(tile);
+			}
+			return true;
+		}
+
+		tile = easyToEliteItems.remove(item);
+		if (tile != null)
+		{
+			if (decrement(easyToEliteItemCounts, tile))
+			{
+				easyToEliteTiles.remove(tile);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return true if no items are left pending on the tile
+	 */
+	private static boolean decrement(Map<Tile, Integer> itemCounts, Tile tile)
+	{
+		return itemCounts.compute(tile, (t, count) -> count == null || count <= 1 ? null : count - 1) == null;
+	}
+
+	public void clear()
+	{
+		relativeTimerTiles.clear();
+		easyToEliteTiles.clear();
+		relativeTimerItems.clear();
+		easyToEliteItems.clear();
+		relativeTimerItemCounts.clear();
+		easyToEliteItemCounts.clear();
+	}
+}
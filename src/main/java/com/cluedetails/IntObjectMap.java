@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Open-addressing hash map from primitive int keys to objects. Lookups never box the key,
+ * which keeps per-tick and per-frame queries on packed coordinates allocation-free.
+ */
+public class IntObjectMap<V>
+{
+	private static final int EMPTY = Integer.MIN_VALUE;
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private int[] keys;
+	private Object[] values;
+	private int size;
+	private int mask;
+	private int resizeAt;
+
+	private final Collection<V> valuesView = new AbstractCollection<V>()
+	{
+		@Override
+		public Iterator<V> iterator()
+		{
+			return new ValueIterator();
+		}
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+	};
+
+	public IntObjectMap()
+	{
+		this(16);
+	}
+
+	public IntObjectMap(int expectedSize)
+	{
+		int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+		allocate(capacity);
+	}
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		Arrays.fill(keys, EMPTY);
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeAt = (int) (capacity * LOAD_FACTOR);
+	}
+
+	private static int mix(int key)
+	{
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private int indexOf(int key)
+	{
+		int i = mix(key) & mask;
+		while (keys[i] != EMPTY)
+		{
+			if (keys[i] == key)
+			{
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(int key)
+	{
+		int i = indexOf(key);
+		return i == -1 ? null : (V) values[i];
+	}
+
+	public boolean containsKey(int key)
+	{
+		return indexOf(key) != -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V put(int key, V value)
+	{
+		if (key == EMPTY)
+		{
+			throw new IllegalArgumentException("Key " + key + " is reserved");
+		}
+
+		int i = mix(key) & mask;
+		while (keys[i] != EMPTY)
+		{
+			if (keys[i] == key)
+			{
+				V old = (V) values[i];
+				values[i] = value;
+				return old;
+			}
+			i = (i + 1) & mask;
+		}
+
+		keys[i] = key;
+		values[i] = value;
+		if (++size > resizeAt)
+		{
+			rehash(keys.length << 1);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V remove(int key)
+	{
+		int i = indexOf(key);
+		if (i == -1)
+		{
+			return null;
+		}
+
+		V old = (V) values[i];
+		size--;
+
+		// Backward-shift deletion so probe chains stay intact without tombstones
+		int gap = i;
+		int j = i;
+		while (true)
+		{
+			j = (j + 1) & mask;
+			if (keys[j] == EMPTY)
+			{
+				break;
+			}
+			int home = mix(keys[j]) & mask;
+			if (((j - home) & mask) >= ((j - gap) & mask))
+			{
+				keys[gap] = keys[j];
+				values[gap] = values[j];
+				gap = j;
+			}
+		}
+		keys[gap] = EMPTY;
+		values[gap] = null;
+		return old;
+	}
+
+	private void rehash(int capacity)
+	{
+		int[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++)
+		{
+			if (oldKeys[i] != EMPTY)
+			{
+				insertFresh(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	private void insertFresh(int key, Object value)
+	{
+		int i = mix(key) & mask;
+		while (keys[i] != EMPTY)
+		{
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		size++;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public void clear()
+	{
+		if (size == 0)
+		{
+			return;
+		}
+		Arrays.fill(keys, EMPTY);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+	 * Live view of the values. Iteration order is unspecified.
+	 */
+	public Collection<V> values()
+	{
+		return valuesView;
+	}
+
+	private class ValueIterator implements Iterator<V>
+	{
+		private int next = advance(0);
+
+		private int advance(int from)
+		{
+			int i = from;
+			while (i < keys.length && keys[i] == EMPTY)
+			{
+				i++;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return next < keys.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V next()
+		{
+			if (next >= keys.length)
+			{
+				throw new NoSuchElementException();
+			}
+			V value = (V) values[next];
+			next = advance(next + 1);
+			return value;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Packs world coordinates into a single int so tiles and zones can be used as primitive map keys.
+ * Layout is 2 bits of plane, 14 bits of x and 14 bits of y. Zones are the 8x8 chunks the game loads
+ * ground items by, and are packed as 11 bits of zone x and 11 bits of zone y across all planes.
+ */
+public final class PackedWorldPoint
+{
+	private static final int COORD_BITS = 14;
+	private static final int COORD_MASK = (1 << COORD_BITS) - 1;
+	private static final int ZONE_BITS = 11;
+	private static final int ZONE_MASK = (1 << ZONE_BITS) - 1;
+
+	private PackedWorldPoint()
+	{
+	}
+
+	public static int pack(int x, int y, int plane)
+	{
+		return (plane & 0x3) << (COORD_BITS * 2) | (x & COORD_MASK) << COORD_BITS | (y & COORD_MASK);
+	}
+
+	public static int pack(WorldPoint wp)
+	{
+		return pack(wp.getX(), wp.getY(), wp.getPlane());
+	}
+
+	public static int getX(int packed)
+	{
+		return (packed >> COORD_BITS) & COORD_MASK;
+	}
+
+	public static int getY(int packed)
+	{
+		return packed & COORD_MASK;
+	}
+
+	public static int getPlane(int packed)
+	{
+		return (packed >> (COORD_BITS * 2)) & 0x3;
+	}
+
+	/**
+	 * The 64x64 map region containing a point, with the same ids as {@link WorldPoint#getRegionID()}
+	 */
+	public static int regionOf(int x, int y)
+	{
+		return (x >> 6) << 8 | (y >> 6);
+	}
+
+	public static int zoneOf(WorldPoint wp)
+	{
+		return packZone(wp.getX() >> 3, wp.getY() >> 3);
+	}
+
+	public static int zoneOf(int packed)
+	{
+		return packZone(getX(packed) >> 3, getY(packed) >> 3);
+	}
+
+	public static int packZone(int zoneX, int zoneY)
+	{
+		return (zoneX & ZONE_MASK) << ZONE_BITS | (zoneY & ZONE_MASK);
+	}
+
+	public static int getZoneX(int packedZone)
+	{
+		return (packedZone >> ZONE_BITS) & ZONE_MASK;
+	}
+
+	public static int getZoneY(int packedZone)
+	{
+		return packedZone & ZONE_MASK;
+	}
+
+	/**
+	 * Chebyshev distance between two packed zones, which is how the game decides what zones are loaded
+	 */
+	public static int zoneDistance(int packedZone1, int packedZone2)
+	{
+		return Math.max(Math.abs(getZoneX(packedZone1) - getZoneX(packedZone2)),
+			Math.abs(getZoneY(packedZone1) - getZoneY(packedZone2)));
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton that finds which of a fixed set of phrases appears in a piece of text, ignoring case,
+ * in one pass over the text. Where several phrases appear, the one added first wins.
+ */
+final class PhraseMatcher<V>
+{
+	private static final int NO_MATCH = Integer.MAX_VALUE;
+
+	// Per node: the characters of its outgoing edges, sorted, and the node each one leads to
+	private final char[][] edgeChars;
+	private final int[][] edgeTargets;
+	private final int[] failure;
+	// Per node: the earliest added phrase ending at it or at any of its suffixes
+	private final int[] firstMatch;
+	private final List<V> values;
+
+	private PhraseMatcher(char[][] edgeChars, int[][] edgeTargets, int[] failure, int[] firstMatch, List<V> values)
+	{
+		this.edgeChars = edgeChars;
+		this.edgeTargets = edgeTargets;
+		this.failure = failure;
+		this.firstMatch = firstMatch;
+		this.values = values;
+	}
+
+	/**
+	 * @return the value of the earliest added phrase found in {@code text}, or null if none are found
+	 */
+	public V find(String text)
+	{
+		int best = NO_MATCH;
+		int node = 0;
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = Character.toLowerCase(text.charAt(i));
+			int next = step(edgeChars, edgeTargets, node, c);
+			while (next == -1 && node != 0)
+			{
+				node = failure[node];
+				next = step(edgeChars, edgeTargets, node, c);
+			}
+			node = next == -1 ? 0 : next;
+
+			if (firstMatch[node] < best)
+			{
+				best = firstMatch[node];
+				if (best == 0) break;
+			}
+		}
+		return best == NO_MATCH ? null : values.get(best);
+	}
+
+	private static int step(char[][] edgeChars, int[][] edgeTargets, int node, char c)
+	{
+		int index = Arrays.binarySearch(edgeChars[node], c);
+		return index < 0 ? -1 : edgeTargets[node][index];
+	}
+
+	static final class Builder<V>
+	{
+		private final List<String> phrases = new ArrayList<>();
+		private final List<V> values = new ArrayList<>();
+
+		Builder<V> add(String phrase, V value)
+		{
+			phrases.add(phrase);
+			values.add(value);
+			return this;
+		}
+
+		PhraseMatcher<V> build()
+		{
+			// Trie first, with each node's edges kept sorted so lookups can binary search them
+			List<char[]> edgeChars = new ArrayList<>();
+			List<int[]> edgeTargets = new ArrayList<>();
+			List<Integer> firstMatch = new ArrayList<>();
+			addNode(edgeChars, edgeTargets, firstMatch);
+
+			for (int p = 0; p < phrases.size(); p++)
+			{
+				String phrase = phrases.get(p);
+				int node = 0;
+				for (int i = 0; i < phrase.length(); i++)
+				{
+					char c = Character.toLowerCase(phrase.charAt(i));
+					char[] chars = edgeChars.get(node);
+					int index = Arrays.binarySearch(chars, c);
+					if (index >= 0)
+					{
+						node = edgeTargets.get(node)[index];
+						continue;
+					}
+
+					int child = addNode(edgeChars, edgeTargets, firstMatch);
+					int insertAt = -index - 1;
+					edgeChars.set(node, insert(chars, insertAt, c));
+					edgeTargets.set(node, insert(edgeTargets.get(node), insertAt, child));
+					node = child;
+				}
+				firstMatch.set(node, Math.min(firstMatch.get(node), p));
+			}
+
+			int nodeCount = edgeChars.size();
+			char[][] chars = edgeChars.toArray(new char[0][]);
+			int[][] targets = edgeTargets.toArray(new int[0][]);
+			int[] matches = new int[nodeCount];
+			for (int node = 0; node < nodeCount; node++)
+			{
+				matches[node] = firstMatch.get(node);
+			}
+
+			// Failure links, breadth first so a node's failure target is always complete before the node is
+			int[] failure = new int[nodeCount];
+			Queue<Integer> queue = new ArrayDeque<>();
+			for (int child : targets[0])
+			{
+				queue.add(child);
+			}
+			while (!queue.isEmpty())
+			{
+				int node = queue.poll();
+				for (int i = 0; i < chars[node].length; i++)
+				{
+					int child = targets[node][i];
+					int fallback = failure[node];
+					int target = step(chars, targets, fallback, chars[node][i]);
+					while (target == -1 && fallback != 0)
+					{
+						fallback = failure[fallback];
+						target = step(chars, targets, fallback, chars[node][i]);
+					}
+					failure[child] = target == -1 ? 0 : target;
+					matches[child] = Math.min(matches[child], matches[failure[child]]);
+					queue.add(child);
+				}
+			}
+
+			return new PhraseMatcher<>(chars, targets, failure, matches, new ArrayList<>(values));
+		}
+
+		private static int addNode(List<char[]> edgeChars, List<int[]> edgeTargets, List<Integer> firstMatch)
+		{
+			edgeChars.add(new char[0]);
+			edgeTargets.add(new int[0]);
+			firstMatch.add(NO_MATCH);
+			return edgeChars.size() - 1;
+		}
+
+		private static char[] insert(char[] array, int index, char value)
+		{
+			char[] result = new char[array.length + 1];
+			System.arraycopy(array, 0, result, 0, index);
+			result[index] = value;
+			System.arraycopy(array, index, result, index + 1, array.length - index);
+			return result;
+		}
+
+		private static int[] insert(int[] array, int index, int value)
+		{
+			int[] result = new int[array.length + 1];
+			System.arraycopy(array, 0, result, 0, index);
+			result[index] = value;
+			System.arraycopy(array, index, result, index + 1, array.length - index);
+			return result;
+		}
+	}
+}
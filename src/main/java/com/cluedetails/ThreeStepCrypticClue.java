@@ -52,17 +52,11 @@ public class ThreeStepCrypticClue
 		for (String part : split)
 		{
 			boolean isDone = part.contains("<str>");
-			final String rawText = Text.sanitizeMultilineText(part);
+			final Clues clue = Clues.forSanitizedText(Text.sanitizeMultilineText(part));
 
-			for (Clues clue : Clues.CLUES)
+			if (clue != null)
 			{
-				if (!rawText.equalsIgnoreCase(clue.getClueText()))
-				{
-					continue;
-				}
-
 				steps.add(new AbstractMap.SimpleEntry<>(clue, isDone));
-				break;
 			}
 		}
 
@@ -107,12 +101,9 @@ public class ThreeStepCrypticClue
 			if (!e.getValue() || allPartsObtained)
 			{
 				Clues clue = e.getKey();
-				String detail = clue.getDetail(configManager);
-				if (config.colorInventoryClueTags())
-				{
-					String color = Integer.toHexString(clue.getDetailColor(configManager).getRGB()).substring(2);
-					text.append("<col=").append(color).append(">");
-				}
+				String detail = config.colorInventoryClueTags()
+					? clue.getColoredDetail(configManager)
+					: clue.getDetail(configManager);
 				text.append(detail).append("<br>");
 			}
 		}
@@ -24,216 +24,416 @@
  */
 package com.cluedetails;
 
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Consumer;
+import lombok.Getter;
 import net.runelite.api.Client;
 import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
 import net.runelite.api.WorldView;
-import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 
 public class WorldPointToClueInstances
 {
+	// Ground items are only loaded for zones within this many zones of the player
+	private static final int ITEM_LOAD_ZONE_DISTANCE = 3;
+
 	private final Client client;
 	private final ClueDetailsPlugin clueDetailsPlugin;
-	private final Comparator<ClueInstance> clueComparator;
 
-	private final Map<WorldPoint, SortedSet<ClueInstance>> cluesByWorldPoint = new HashMap<>();
-	private final Map<WorldPoint, List<ClueInstance>> groundCluesBeginnerAndMaster = new HashMap<>();
-	private final Map<WorldPoint, List<ClueInstance>> groundCluesEasyToElite = new HashMap<>();
+	// Tiles keyed by packed world point, and the same tiles bucketed by packed zone
+	private final IntObjectMap<ClueTile> tiles = new IntObjectMap<>(256);
+	private final IntObjectMap<List<ClueTile>> tilesByZone = new IntObjectMap<>(64);
+
+	private final Set<WorldPoint> trackedWorldPoints = new TrackedWorldPointSet();
+
+	// Reverse lookup from the game's ground item objects to the clue tracking them
+	private final Map<TileItem, ClueInstance> cluesByTileItem = new IdentityHashMap<>();
+
+	private final DespawnScheduler despawnScheduler = new DespawnScheduler();
+	private int trackedClueCount;
+
+	// Bumped by every change to what's tracked, so saves can tell whether anything changed since the last one
+	@Getter
+	private int modCount;
 
 	public WorldPointToClueInstances(Client client, ClueDetailsPlugin clueDetailsPlugin)
 	{
 		this.client = client;
 		this.clueDetailsPlugin = clueDetailsPlugin;
+	}
 
-		clueComparator = Comparator
-			.comparingLong(ClueInstance::getSequenceNumber)
-			.thenComparingInt(ClueInstance::getDespawnTick);
+	private ClueTile getTile(WorldPoint wp)
+	{
+		if (wp == null) return null;
+		return tiles.get(PackedWorldPoint.pack(wp));
 	}
 
-	private void createGroupedSet(WorldPoint wp)
+	private ClueTile getOrCreateTile(WorldPoint wp)
 	{
-		if (cluesByWorldPoint.get(wp) != null)
+		int packed = PackedWorldPoint.pack(wp);
+		ClueTile tile = tiles.get(packed);
+		if (tile == null)
 		{
-			cluesByWorldPoint.get(wp).clear();
-		}
+			tile = new ClueTile(packed, wp, ClueInstance.SEQUENCE_ORDER);
+			tiles.put(packed, tile);
 
-		if (groundCluesBeginnerAndMaster.get(wp) != null)
-		{
-			for (ClueInstance clueInstance : groundCluesBeginnerAndMaster.get(wp))
+			int zone = PackedWorldPoint.zoneOf(packed);
+			List<ClueTile> zoneTiles = tilesByZone.get(zone);
+			if (zoneTiles == null)
 			{
-				cluesByWorldPoint.computeIfAbsent(wp, k -> new TreeSet<>(clueComparator)).add(clueInstance);
+				zoneTiles = new ArrayList<>(4);
+				tilesByZone.put(zone, zoneTiles);
 			}
+			zoneTiles.add(tile);
 		}
+		return tile;
+	}
 
-		if (groundCluesEasyToElite.get(wp) != null)
+	private void removeTileIfEmpty(ClueTile tile)
+	{
+		if (!tile.isEmpty()) return;
+
+		tiles.remove(tile.getPackedPoint());
+
+		int zone = PackedWorldPoint.zoneOf(tile.getPackedPoint());
+		List<ClueTile> zoneTiles = tilesByZone.get(zone);
+		if (zoneTiles != null)
 		{
-			for (ClueInstance clueInstance : groundCluesEasyToElite.get(wp))
+			zoneTiles.remove(tile);
+			if (zoneTiles.isEmpty())
 			{
-				cluesByWorldPoint.computeIfAbsent(wp, k -> new TreeSet<>(clueComparator)).add(clueInstance);
+				tilesByZone.remove(zone);
 			}
 		}
+	}
 
-		if (cluesByWorldPoint.get(wp) != null && cluesByWorldPoint.get(wp).isEmpty())
+	private ClueInstance removeFromSlot(List<ClueInstance> slot, ClueInstance clueInstance)
+	{
+		for (int i = slot.size() - 1; i >= 0; i--)
 		{
-			cluesByWorldPoint.remove(wp);
+			if (slot.get(i) == clueInstance)
+			{
+				return slot.remove(i);
+			}
 		}
+		return null;
+	}
+
+	private boolean removeFromMergedView(ClueTile tile, ClueInstance storedClue)
+	{
+		// If the sequence number was changed without going through rekeyClue, the comparator can no longer find it
+		return tile.getAllClues().remove(storedClue)
+			|| tile.getAllClues().removeIf(clue -> clue == storedClue);
 	}
 
 	public List<ClueInstance> getAllClues()
 	{
-		SortedSet<ClueInstance> allClues = new TreeSet<>(clueComparator);
+		SortedSet<ClueInstance> allClues = new TreeSet<>(ClueInstance.SEQUENCE_ORDER);
 
-		cluesByWorldPoint.values().forEach(allClues::addAll);
+		for (ClueTile tile : tiles.values())
+		{
+			allClues.addAll(tile.getAllClues());
+		}
 		return new ArrayList<>(allClues);
 	}
 
 	public SortedSet<ClueInstance> getAllCluesAtWorldPoint(WorldPoint wp)
 	{
-		return cluesByWorldPoint.getOrDefault(wp, Collections.emptySortedSet());
+		ClueTile tile = getTile(wp);
+		if (tile == null) return Collections.emptySortedSet();
+		return tile.getAllClues();
 	}
 
+	/**
+	 * @return a read-only view of the tile's beginner and master clues, which changes as the tile does
+	 */
 	public List<ClueInstance> getBeginnerAndMasterCluesAtWorldPoint(WorldPoint wp)
 	{
-		return new ArrayList<>(groundCluesBeginnerAndMaster.getOrDefault(wp, new ArrayList<>()));
+		ClueTile tile = getTile(wp);
+		if (tile == null) return Collections.emptyList();
+		return tile.getBeginnerAndMasterView();
 	}
 
 	public void addClue(ClueInstance clueInstance)
 	{
+		ClueTile tile = getOrCreateTile(clueInstance.getLocation());
 		if (Clues.isBeginnerOrMasterClue(clueInstance.getItemId(), clueDetailsPlugin.isDeveloperMode()))
 		{
-			addBeginnerMasterClue(clueInstance);
+			tile.getBeginnerAndMaster().add(clueInstance);
 		}
 		else if (Clues.isClue(clueInstance.getItemId(), clueDetailsPlugin.isDeveloperMode()))
 		{
-			addEasyToEliteClue(clueInstance);
+			tile.getEasyToElite().add(clueInstance);
+		}
+		else
+		{
+			removeTileIfEmpty(tile);
+			return;
 		}
 
-		createGroupedSet(clueInstance.getLocation());
+		tile.getAllClues().add(clueInstance);
+		indexTileItem(clueInstance);
+		trackedClueCount++;
+		modCount++;
+		scheduleDespawn(clueInstance);
 	}
 
 	public void removeClue(ClueInstance clueInstance)
 	{
+		ClueTile tile = getTile(clueInstance.getLocation());
+		if (tile == null) return;
+
+		ClueInstance storedClue = null;
 		if (Clues.isBeginnerOrMasterClue(clueInstance.getItemId(), clueDetailsPlugin.isDeveloperMode()))
 		{
-			removeBeginnerMasterClue(clueInstance);
+			storedClue = removeFromSlot(tile.getBeginnerAndMaster(), clueInstance);
 		}
 		else if (Clues.isClue(clueInstance.getItemId(), clueDetailsPlugin.isDeveloperMode()))
 		{
-			removeEasyToEliteClue(clueInstance);
+			storedClue = removeFromSlot(tile.getEasyToElite(), clueInstance);
 		}
 
-		createGroupedSet(clueInstance.getLocation());
+		if (storedClue == null) return;
+
+		trackedClueCount--;
+		modCount++;
+		unindexTileItem(storedClue);
+		removeFromMergedView(tile, storedClue);
+		removeTileIfEmpty(tile);
 	}
 
-	private void addBeginnerMasterClue(ClueInstance clue)
+	/**
+	 * Applies a change to a tracked clue's sort key (sequence number or despawn tick) or tile item, keeping
+	 * its tile's sorted view and the tile item lookup in sync. Mutating those fields on a tracked clue any
+	 * other way leaves them stale.
+	 */
+	public void rekeyClue(ClueInstance clueInstance, Consumer<ClueInstance> update)
 	{
-		groundCluesBeginnerAndMaster.computeIfAbsent(clue.getLocation(), k -> new ArrayList<>()).add(clue);
+		ClueTile tile = getTile(clueInstance.getLocation());
+		boolean isTracked = tile != null && removeFromMergedView(tile, clueInstance);
+		if (isTracked)
+		{
+			unindexTileItem(clueInstance);
+		}
+		update.accept(clueInstance);
+		if (isTracked)
+		{
+			tile.getAllClues().add(clueInstance);
+			indexTileItem(clueInstance);
+			scheduleDespawn(clueInstance);
+			modCount++;
+		}
 	}
 
-	private void addEasyToEliteClue(ClueInstance clueInstance)
+	public ClueInstance getClueForTileItem(TileItem tileItem)
 	{
-		groundCluesEasyToElite.computeIfAbsent(clueInstance.getLocation(), k -> new ArrayList<>()).add(clueInstance);
+		return cluesByTileItem.get(tileItem);
 	}
 
-	private void removeBeginnerMasterClue(ClueInstance clueInstance)
+	private void indexTileItem(ClueInstance clueInstance)
 	{
-		List<ClueInstance> list = groundCluesBeginnerAndMaster.get(clueInstance.getLocation());
-		if (list != null)
+		if (clueInstance.getTileItem() != null)
 		{
-			list.remove(clueInstance);
-			if (list.isEmpty())
-			{
-				groundCluesBeginnerAndMaster.remove(clueInstance.getLocation());
-			}
+			cluesByTileItem.put(clueInstance.getTileItem(), clueInstance);
 		}
 	}
 
-	private void removeEasyToEliteClue(ClueInstance clueInstance)
+	private void unindexTileItem(ClueInstance clueInstance)
 	{
-		List<ClueInstance> list = groundCluesEasyToElite.get(clueInstance.getLocation());
-		if (list != null)
+		TileItem tileItem = clueInstance.getTileItem();
+		if (tileItem != null && cluesByTileItem.get(tileItem) == clueInstance)
 		{
-			list.remove(clueInstance);
-
-			if (groundCluesEasyToElite.get(clueInstance.getLocation()) != null && groundCluesEasyToElite.get(clueInstance.getLocation()).isEmpty())
-			{
-				groundCluesEasyToElite.remove(clueInstance.getLocation());
-			}
+			cluesByTileItem.remove(tileItem);
 		}
 	}
 
 	public void clearEasyToEliteCluesAtWorldPoint(WorldPoint wp)
 	{
-		List<ClueInstance> clues = groundCluesEasyToElite.get(wp);
-		if (clues == null) return;
-		new ArrayList<>(clues).forEach(this::removeClue);
+		ClueTile tile = getTile(wp);
+		if (tile == null) return;
+		new ArrayList<>(tile.getEasyToElite()).forEach(this::removeClue);
 	}
 
 	public void clearBeginnerAndMasterCluesAtWorldPoint(WorldPoint wp)
 	{
-		List<ClueInstance> clues = groundCluesBeginnerAndMaster.get(wp);
-		if (clues == null) return;
-		new ArrayList<>(clues).forEach(this::removeClue);
+		ClueTile tile = getTile(wp);
+		if (tile == null) return;
+		new ArrayList<>(tile.getBeginnerAndMaster()).forEach(this::removeClue);
 	}
 
-	public void clearEmptyTiles(Zone currentZone)
+	public void clearEmptyTiles(int currentZone)
 	{
-		for (ClueInstance clueInstance : getAllClues())
-		{
-			Tile tile = getTileAtWorldPoint(clueInstance.getLocation());
-			if (tile == null) continue;
+		int currentZoneX = PackedWorldPoint.getZoneX(currentZone);
+		int currentZoneY = PackedWorldPoint.getZoneY(currentZone);
 
-			Zone clueZone = new Zone(tile.getWorldLocation());
-			// Item won't have potentially spawned if too far, so don't remove
-			int zonesDistance = clueZone.maxDistanceTo(currentZone);
-			if (zonesDistance >= 4) continue;
-			if (tile.getGroundItems() == null || tile.getGroundItems().isEmpty())
+		// Items won't have potentially spawned if too far, so only check zones close enough to have loaded
+		for (int zoneX = currentZoneX - ITEM_LOAD_ZONE_DISTANCE; zoneX <= currentZoneX + ITEM_LOAD_ZONE_DISTANCE; zoneX++)
+		{
+			for (int zoneY = currentZoneY - ITEM_LOAD_ZONE_DISTANCE; zoneY <= currentZoneY + ITEM_LOAD_ZONE_DISTANCE; zoneY++)
 			{
-				removeClue(clueInstance);
+				List<ClueTile> zoneTiles = tilesByZone.get(PackedWorldPoint.packZone(zoneX, zoneY));
+				if (zoneTiles == null) continue;
+
+				// Backwards, as clearing a tile removes it from the zone
+				for (int i = zoneTiles.size() - 1; i >= 0; i--)
+				{
+					ClueTile clueTile = zoneTiles.get(i);
+					Tile tile = getTileAtPackedPoint(clueTile.getPackedPoint());
+					if (tile == null) continue;
+
+					// A tile only has an item layer while it has items, and this avoids getGroundItems building a list
+					if (tile.getItemLayer() == null)
+					{
+						clearTile(clueTile);
+					}
+				}
 			}
 		}
 	}
 
+	private void clearTile(ClueTile tile)
+	{
+		new ArrayList<>(tile.getBeginnerAndMaster()).forEach(this::removeClue);
+		new ArrayList<>(tile.getEasyToElite()).forEach(this::removeClue);
+	}
+
 	public void clearAllClues()
 	{
-		groundCluesEasyToElite.clear();
-		groundCluesBeginnerAndMaster.clear();
-		cluesByWorldPoint.clear();
+		tiles.clear();
+		tilesByZone.clear();
+		cluesByTileItem.clear();
+		despawnScheduler.clear();
+		trackedClueCount = 0;
+		modCount++;
 	}
 
 	public void removeDespawnedClues()
 	{
-		for (ClueInstance clueInstance : getAllClues())
+		int tickCount = client.getTickCount();
+		while (despawnScheduler.hasDueBy(tickCount))
+		{
+			int scheduledTick = despawnScheduler.peekTick();
+			ClueInstance clueInstance = despawnScheduler.poll();
+
+			// Stale entry for a clue that has since been removed or rescheduled
+			if (scheduledTick != clueInstance.getDespawnTick() || !isTracked(clueInstance)) continue;
+
+			removeClue(clueInstance);
+		}
+	}
+
+	private void scheduleDespawn(ClueInstance clueInstance)
+	{
+		// Drop stale entries once they outnumber the live ones
+		if (despawnScheduler.size() > (trackedClueCount * 2) + 64)
 		{
-			if (clueInstance.getDespawnTick() <= client.getTickCount())
+			despawnScheduler.clear();
+			for (ClueTile tile : tiles.values())
 			{
-				removeClue(clueInstance);
+				for (ClueInstance trackedClue : tile.getBeginnerAndMaster())
+				{
+					despawnScheduler.schedule(trackedClue, trackedClue.getDespawnTick());
+				}
+				for (ClueInstance trackedClue : tile.getEasyToElite())
+				{
+					despawnScheduler.schedule(trackedClue, trackedClue.getDespawnTick());
+				}
 			}
+			return;
 		}
+		despawnScheduler.schedule(clueInstance, clueInstance.getDespawnTick());
+	}
+
+	private boolean isTracked(ClueInstance clueInstance)
+	{
+		ClueTile tile = getTile(clueInstance.getLocation());
+		if (tile == null) return false;
+
+		for (ClueInstance trackedClue : tile.getBeginnerAndMaster())
+		{
+			if (trackedClue == clueInstance) return true;
+		}
+		for (ClueInstance trackedClue : tile.getEasyToElite())
+		{
+			if (trackedClue == clueInstance) return true;
+		}
+		return false;
 	}
 
 	public Set<WorldPoint> getAllTrackedWorldPoints()
 	{
-		return cluesByWorldPoint.keySet();
+		return trackedWorldPoints;
 	}
 
 	public Tile getTileAtWorldPoint(WorldPoint tileWp)
+	{
+		return getTileAtPackedPoint(PackedWorldPoint.pack(tileWp));
+	}
+
+	// Same bounds as LocalPoint.fromWorld, without creating the LocalPoint
+	private Tile getTileAtPackedPoint(int packedPoint)
 	{
 		WorldView worldView = client.getTopLevelWorldView();
-		LocalPoint tileLp = LocalPoint.fromWorld(worldView, tileWp);
-		if (tileLp == null)
+		int plane = PackedWorldPoint.getPlane(packedPoint);
+		if (plane != worldView.getPlane())
+		{
+			return null;
+		}
+
+		int sceneX = PackedWorldPoint.getX(packedPoint) - worldView.getBaseX();
+		int sceneY = PackedWorldPoint.getY(packedPoint) - worldView.getBaseY();
+		if (sceneX < 0 || sceneY < 0 || sceneX >= worldView.getSizeX() || sceneY >= worldView.getSizeY())
 		{
 			return null;
 		}
-		return worldView.getScene().getTiles()[tileWp.getPlane()][tileLp.getSceneX()][tileLp.getSceneY()];
+		return worldView.getScene().getTiles()[plane][sceneX][sceneY];
+	}
+
+	/**
+	 * Read-only view of the tracked tiles' world points, with membership checked through the packed index
+	 */
+	private class TrackedWorldPointSet extends AbstractSet<WorldPoint>
+	{
+		@Override
+		public boolean contains(Object o)
+		{
+			return o instanceof WorldPoint && tiles.containsKey(PackedWorldPoint.pack((WorldPoint) o));
+		}
+
+		@Override
+		public Iterator<WorldPoint> iterator()
+		{
+			Iterator<ClueTile> tileIterator = tiles.values().iterator();
+			return new Iterator<WorldPoint>()
+			{
+				@Override
+				public boolean hasNext()
+				{
+					return tileIterator.hasNext();
+				}
+
+				@Override
+				public WorldPoint next()
+				{
+					return tileIterator.next().getLocation();
+				}
+			};
+		}
+
+		@Override
+		public int size()
+		{
+			return tiles.size();
+		}
 	}
 }
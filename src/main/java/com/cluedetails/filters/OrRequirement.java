@@ -34,18 +34,21 @@ public class OrRequirement extends AbstractRequirement
 	public OrRequirement(WorldPoint... wps)
 	{
 		this.wps = List.of(wps);
-		this.regions = findRegions();
 	}
 
 	public OrRequirement(List<WorldPoint> wps)
 	{
 		this.wps = wps;
-		this.regions = findRegions();
 	}
 
 	@Override
 	public boolean isRegionValid(ClueRegion clueRegionToCheck)
 	{
+		// Only the sidebar's region filter needs these, so they aren't worked out for every clue at startup
+		if (regions == null)
+		{
+			regions = findRegions();
+		}
 		return regions.contains(clueRegionToCheck);
 	}
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Test;
+
+public class ClueGroundManagerAllocationTest
+{
+	private static final int TRACKED_CLUES = 2000;
+	private static final int WARMUP_TICKS = 20_000;
+	private static final int MEASURED_TICKS = 10_000;
+
+	@Test
+	public void steadyStateGameTickAllocatesNothing()
+	{
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+
+		ClueGroundManager groundManager = trackingClues(TRACKED_CLUES);
+		for (int i = 0; i < WARMUP_TICKS; i++)
+		{
+			groundManager.onGameTick();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		// What reading the counter itself allocates, so it can be taken off the measurement
+		long overhead = -threads.getThreadAllocatedBytes(threadId);
+		overhead += threads.getThreadAllocatedBytes(threadId);
+
+		long allocated = -threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_TICKS; i++)
+		{
+			groundManager.onGameTick();
+		}
+		allocated += threads.getThreadAllocatedBytes(threadId);
+		allocated -= overhead;
+
+		// Any allocation in the tick itself would add up to at least one object per tick
+		assertTrue("onGameTick allocated " + allocated + " bytes over " + MEASURED_TICKS + " ticks", allocated < MEASURED_TICKS);
+	}
+
+	/**
+	 * A ground manager tracking clues on tiles around the player, none of which despawn or change.
+	 */
+	private static ClueGroundManager trackingClues(int clueCount)
+	{
+		ClueDetailsPlugin plugin = StandIns.plugin();
+		Tile[][][] sceneTiles = StandIns.emptyScene();
+		Client client = StandIns.client(0, sceneTiles);
+		ClueGroundManager groundManager = new ClueGroundManager(client, new ClueGroundSaveDataManager(client, null, null), plugin);
+
+		List<ClueInstance> clues = new ArrayList<>(clueCount);
+		Map<WorldPoint, List<TileItem>> itemsByLocation = new HashMap<>();
+		WorldPoint player = StandIns.PLAYER_LOCATION;
+		for (int i = 0; i < clueCount; i++)
+		{
+			WorldPoint location = new WorldPoint(player.getX() - 20 + i % 40, player.getY() - 20 + (i / 40) % 40, 0);
+			int itemId = (i & 1) == 0 ? ItemID.CLUE_SCROLL_BEGINNER : ItemID.CLUE_SCROLL_MASTER;
+			TileItem item = StandIns.tileItem(itemId, 6000 + i);
+			itemsByLocation.computeIfAbsent(location, l -> new ArrayList<>()).add(item);
+			clues.add(new ClueInstance(ClueSteps.NONE, itemId, location, item, 0));
+		}
+
+		for (Map.Entry<WorldPoint, List<TileItem>> entry : itemsByLocation.entrySet())
+		{
+			WorldPoint location = entry.getKey();
+			sceneTiles[location.getPlane()][location.getX() - StandIns.BASE_X][location.getY() - StandIns.BASE_Y] =
+				StandIns.tile(location, entry.getValue());
+		}
+
+		for (ClueInstance clue : clues)
+		{
+			groundManager.getTrackedClues().addClue(clue);
+		}
+		return groundManager;
+	}
+}
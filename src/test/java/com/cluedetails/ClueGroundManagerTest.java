@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.ItemID;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ItemDespawned;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueGroundManagerTest
+{
+	private static final int ZONE_SIZE = 8;
+	// Four zones east of the player's zone, still inside the scene
+	private static final WorldPoint CLUE_LOCATION = new WorldPoint(
+		StandIns.PLAYER_LOCATION.getX() + 4 * ZONE_SIZE, StandIns.PLAYER_LOCATION.getY(), 0);
+
+	private final Map<String, Object> playerReturns = new HashMap<>();
+	private final TileItem clueItem = StandIns.tileItem(ItemID.CLUE_SCROLL_BEGINNER, 6000);
+	private Tile clueTile;
+
+	@Test
+	public void clueLeavingLoadRangeStaysTracked()
+	{
+		ClueGroundManager groundManager = trackingClue();
+
+		// Moving a zone towards the clue has the game despawn and respawn it
+		movePlayer(ZONE_SIZE);
+		groundManager.onItemDespawned(new ItemDespawned(clueTile, clueItem));
+
+		assertNotNull(groundManager.getTrackedClues().getClueForTileItem(clueItem));
+		assertTrue(groundManager.getDespawnedClueQueueForInventoryCheck().isEmpty());
+	}
+
+	@Test
+	public void clueDespawningWithoutMovingIsPickedUp()
+	{
+		ClueGroundManager groundManager = trackingClue();
+
+		groundManager.onItemDespawned(new ItemDespawned(clueTile, clueItem));
+
+		assertNull(groundManager.getTrackedClues().getClueForTileItem(clueItem));
+		assertEquals(1, groundManager.getDespawnedClueQueueForInventoryCheck().size());
+	}
+
+	private ClueGroundManager trackingClue()
+	{
+		ClueDetailsPlugin plugin = StandIns.plugin();
+		Tile[][][] sceneTiles = StandIns.emptyScene();
+		playerReturns.put("getWorldLocation", StandIns.PLAYER_LOCATION);
+		Client client = StandIns.client(0, sceneTiles, playerReturns);
+		ClueGroundManager groundManager = new ClueGroundManager(client, new ClueGroundSaveDataManager(client, null, null), plugin);
+
+		clueTile = StandIns.tile(CLUE_LOCATION, Collections.singletonList(clueItem));
+		sceneTiles[0][CLUE_LOCATION.getX() - StandIns.BASE_X][CLUE_LOCATION.getY() - StandIns.BASE_Y] = clueTile;
+		groundManager.getTrackedClues().addClue(new ClueInstance(ClueSteps.NONE, ItemID.CLUE_SCROLL_BEGINNER, CLUE_LOCATION, clueItem, 0));
+
+		// Records the zone the player was in on the last tick
+		groundManager.onGameTick();
+		return groundManager;
+	}
+
+	private void movePlayer(int dx)
+	{
+		WorldPoint player = StandIns.PLAYER_LOCATION;
+		playerReturns.put("getWorldLocation", new WorldPoint(player.getX() + dx, player.getY(), player.getPlane()));
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ClueStackMatcherTest
+{
+	private static final int[] STACK_SIZES = { 1, 2, 3, 10, 100, 500, 1000, 2000 };
+	// Ticks the game kept running while we weren't watching the stack
+	private static final int[] TICKS_AWAY = { 0, 1, 600, 6000 };
+
+	@Test
+	public void emptyStacksMatchNothing()
+	{
+		assertArrayEquals(new int[0], ClueStackMatcher.align(new int[0], new int[0], new int[]{ 100 }));
+		assertArrayEquals(new int[]{ -1 }, ClueStackMatcher.align(new int[]{ 100 }, new int[]{ 100 }, new int[0]));
+		assertArrayEquals(new int[0], ClueStackMatcher.align(new int[0], new int[0], new int[0]));
+	}
+
+	@Test
+	public void loneClueMatchesLoneItem()
+	{
+		assertArrayEquals(new int[]{ 0 }, ClueStackMatcher.align(new int[]{ 500 }, new int[]{ 500 }, new int[]{ 400 }));
+	}
+
+	@Test
+	public void loneClueDoesNotMatchItemDespawningAfterIt()
+	{
+		assertArrayEquals(new int[]{ -1 }, ClueStackMatcher.align(new int[]{ 500 }, new int[]{ 500 }, new int[]{ 501 }));
+	}
+
+	@Test
+	public void unchangedStacksMatchInOrder()
+	{
+		for (int size : STACK_SIZES)
+		{
+			for (int ticksAway : TICKS_AWAY)
+			{
+				int[] storedTicks = storedTicks(size, new Random(size));
+				int[] groundTicks = shift(storedTicks, ticksAway);
+
+				int[] matches = ClueStackMatcher.align(storedTicks, storedTicks, groundTicks);
+
+				assertArrayEquals("size " + size + ", away " + ticksAway, identity(size), matches);
+			}
+		}
+	}
+
+	@Test
+	public void pickingUpTheOldestCluesLeavesTheRestMatched()
+	{
+		for (int size : STACK_SIZES)
+		{
+			// Diffs between clues are needed to match more than one stored clue against the ground
+			for (int pickedUp = 1; size - pickedUp >= 2; pickedUp = pickedUp * 3 + 1)
+			{
+				for (int ticksAway : TICKS_AWAY)
+				{
+					int[] storedTicks = storedTicks(size, new Random(size * 31L + pickedUp));
+					int[] groundTicks = Arrays.copyOfRange(shift(storedTicks, ticksAway), pickedUp, size);
+
+					int[] matches = ClueStackMatcher.align(storedTicks, storedTicks, groundTicks);
+
+					String message = "size " + size + ", picked up " + pickedUp + ", away " + ticksAway;
+					for (int i = 0; i < size; i++)
+					{
+						assertEquals(message, i < pickedUp ? -1 : i - pickedUp, matches[i]);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void duplicateTicksInUnchangedStack()
+	{
+		int[] storedTicks = { 100, 100, 150, 150, 150, 200 };
+		int[] matches = ClueStackMatcher.align(storedTicks, storedTicks, shift(storedTicks, 20));
+		assertArrayEquals(identity(storedTicks.length), matches);
+	}
+
+	@Test
+	public void duplicateTicksWithOnePickedUp()
+	{
+		int[] storedTicks = { 100, 100, 150, 200 };
+		int[] groundTicks = { 80, 130, 180 };
+
+		int[] matches = ClueStackMatcher.align(storedTicks, storedTicks, groundTicks);
+
+		// Either of the duplicates could be the one left, as they can't be told apart
+		assertConsistent(storedTicks, storedTicks, groundTicks, matches, 3);
+	}
+
+	@Test
+	public void itemsNeverMatchCluesTheyWouldOutlast()
+	{
+		int[] storedTicks = { 100, 200, 300 };
+		int[] storedLimits = { 100, 200, 300 };
+		// Each item despawns one tick after the clue at the same position could have
+		int[] groundTicks = { 101, 201, 301 };
+
+		int[] matches = ClueStackMatcher.align(storedTicks, storedLimits, groundTicks);
+
+		// Every item outlasts the first clue, so only a later clue can have been left on the ground earlier
+		assertEquals(-1, matches[0]);
+		for (int i = 0; i < matches.length; i++)
+		{
+			if (matches[i] != -1)
+			{
+				assertTrue(groundTicks[matches[i]] <= storedLimits[i]);
+			}
+		}
+	}
+
+	@Test
+	public void unseenItemsAreLeftUnmatched()
+	{
+		int[] storedTicks = storedTicks(50, new Random(7));
+		int[] shifted = shift(storedTicks, 300);
+		// Someone else dropped clues into the stack between ours
+		int[] groundTicks = new int[shifted.length + 3];
+		System.arraycopy(shifted, 0, groundTicks, 0, shifted.length);
+		groundTicks[shifted.length] = shifted[10] + 1;
+		groundTicks[shifted.length + 1] = shifted[20] + 2;
+		groundTicks[shifted.length + 2] = shifted[30] + 3;
+		Arrays.sort(groundTicks);
+
+		int[] matches = ClueStackMatcher.align(storedTicks, storedTicks, groundTicks);
+
+		assertConsistent(storedTicks, storedTicks, groundTicks, matches, storedTicks.length);
+	}
+
+	private static void assertConsistent(int[] storedTicks, int[] storedLimits, int[] groundTicks, int[] matches, int expectedMatches)
+	{
+		boolean[] groundUsed = new boolean[groundTicks.length];
+		int offset = -1;
+		int matchCount = 0;
+		for (int i = 0; i < matches.length; i++)
+		{
+			if (matches[i] == -1) continue;
+
+			int j = matches[i];
+			assertFalse("ground item " + j + " matched twice", groundUsed[j]);
+			groundUsed[j] = true;
+			assertTrue(groundTicks[j] <= storedLimits[i]);
+			if (offset == -1)
+			{
+				offset = storedTicks[i] - groundTicks[j];
+			}
+			assertEquals("every match should share one offset", offset, storedTicks[i] - groundTicks[j]);
+			matchCount++;
+		}
+		assertEquals(expectedMatches, matchCount);
+	}
+
+	// Ascending despawn ticks with uneven gaps, as clues are rarely dropped on consecutive ticks
+	private static int[] storedTicks(int size, Random random)
+	{
+		int[] ticks = new int[size];
+		int tick = 6000 + random.nextInt(100);
+		for (int i = 0; i < size; i++)
+		{
+			tick += 1 + random.nextInt(12);
+			ticks[i] = tick;
+		}
+		return ticks;
+	}
+
+	private static int[] shift(int[] ticks, int ticksAway)
+	{
+		int[] shifted = new int[ticks.length];
+		for (int i = 0; i < ticks.length; i++)
+		{
+			shifted[i] = ticks[i] - ticksAway;
+		}
+		return shifted;
+	}
+
+	private static int[] identity(int size)
+	{
+		int[] indexes = new int[size];
+		for (int i = 0; i < size; i++)
+		{
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+}
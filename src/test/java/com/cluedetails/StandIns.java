@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, Zoinkwiz <https://github.com/Zoinkwiz>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.cluedetails;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.ItemLayer;
+import net.runelite.api.Player;
+import net.runelite.api.Scene;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+
+/**
+ * Lightweight stand-ins for the RuneLite API, built as proxies that answer from a map of method name to
+ * return value. Unlisted methods return zero, false or null. Return values are stored already boxed, so
+ * calling a stand-in doesn't allocate.
+ */
+final class StandIns
+{
+	static final int SCENE_SIZE = 104;
+	static final int BASE_X = 3136;
+	static final int BASE_Y = 3136;
+	static final WorldPoint PLAYER_LOCATION = new WorldPoint(BASE_X + SCENE_SIZE / 2, BASE_Y + SCENE_SIZE / 2, 0);
+
+	private StandIns()
+	{
+	}
+
+	static <T> T of(Class<T> type, Map<String, Object> returns)
+	{
+		Object standIn = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return type.getSimpleName() + "StandIn" + returns;
+			}
+
+			Object value = returns.get(method.getName());
+			if (value != null || returns.containsKey(method.getName()))
+			{
+				return value;
+			}
+			return defaultValue(method.getReturnType());
+		});
+		return type.cast(standIn);
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if (!type.isPrimitive() || type == void.class) return null;
+		if (type == boolean.class) return Boolean.FALSE;
+		if (type == long.class) return 0L;
+		if (type == double.class) return 0d;
+		if (type == float.class) return 0f;
+		if (type == char.class) return (char) 0;
+		if (type == byte.class) return (byte) 0;
+		if (type == short.class) return (short) 0;
+		return 0;
+	}
+
+	static TileItem tileItem(int itemId, int despawnTime)
+	{
+		Map<String, Object> returns = new HashMap<>();
+		returns.put("getId", itemId);
+		returns.put("getDespawnTime", despawnTime);
+		returns.put("getQuantity", 1);
+		return of(TileItem.class, returns);
+	}
+
+	static Tile tile(WorldPoint location, List<TileItem> groundItems)
+	{
+		Map<String, Object> returns = new HashMap<>();
+		returns.put("getWorldLocation", location);
+		returns.put("getGroundItems", groundItems);
+		returns.put("getItemLayer", groundItems.isEmpty() ? null : of(ItemLayer.class, new HashMap<>()));
+		return of(Tile.class, returns);
+	}
+
+	/**
+	 * A client on tick {@code tickCount} with the player in the middle of a single plane scene.
+	 * {@code sceneTiles} is indexed [plane][sceneX][sceneY] and may contain nulls.
+	 */
+	static Client client(int tickCount, Tile[][][] sceneTiles)
+	{
+		Map<String, Object> playerReturns = new HashMap<>();
+		playerReturns.put("getWorldLocation", PLAYER_LOCATION);
+		return client(tickCount, sceneTiles, playerReturns);
+	}
+
+	/**
+	 * As {@link #client(int, Tile[][][])}, with the local player answering from {@code playerReturns}. Changing
+	 * its "getWorldLocation" entry moves the player.
+	 */
+	static Client client(int tickCount, Tile[][][] sceneTiles, Map<String, Object> playerReturns)
+	{
+		Map<String, Object> sceneReturns = new HashMap<>();
+		sceneReturns.put("getTiles", sceneTiles);
+		Scene scene = of(Scene.class, sceneReturns);
+
+		Map<String, Object> worldViewReturns = new HashMap<>();
+		worldViewReturns.put("getScene", scene);
+		worldViewReturns.put("getBaseX", BASE_X);
+		worldViewReturns.put("getBaseY", BASE_Y);
+		worldViewReturns.put("getSizeX", SCENE_SIZE);
+		worldViewReturns.put("getSizeY", SCENE_SIZE);
+		worldViewReturns.put("getPlane", 0);
+		WorldView worldView = of(WorldView.class, worldViewReturns);
+
+		Player player = of(Player.class, playerReturns);
+
+		Map<String, Object> clientReturns = new HashMap<>();
+		clientReturns.put("getTickCount", tickCount);
+		clientReturns.put("getTopLevelWorldView", worldView);
+		clientReturns.put("getLocalPlayer", player);
+		return of(Client.class, clientReturns);
+	}
+
+	static Tile[][][] emptyScene()
+	{
+		return new Tile[4][SCENE_SIZE][SCENE_SIZE];
+	}
+
+	static ClueDetailsPlugin plugin()
+	{
+		Clues.refreshEnabledTiers();
+		return new ClueDetailsPlugin();
+	}
+}